@@ -0,0 +1,65 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.keyed;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Counterpart of {@link KeyedDouble} for primitive int-Keys.
+ *
+ * @author Simon Berndt
+ */
+public final class IntKeyedDouble {
+
+    private IntKeyedDouble() {
+    }
+
+    public interface Readable {
+
+        double get(int key);
+
+        boolean containsKey(int key);
+
+        default DoubleSupplier readingAccessorOf(int key) {
+            return () -> {
+                return get(key);
+            };
+        }
+
+    }
+
+    public interface Writable extends IntKeyedDouble.Readable {
+
+        void set(int key, double value);
+
+        default DoubleConsumer writingAccessorOf(int key) {
+            return (double value) -> {
+                set(key, value);
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.keyed;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Counterpart of {@link KeyedLong} for primitive long-Keys.
+ *
+ * @author Simon Berndt
+ */
+public final class LongKeyedLong {
+
+    private LongKeyedLong() {
+    }
+
+    public interface Readable {
+
+        long get(long key);
+
+        boolean containsKey(long key);
+
+        default LongSupplier readingAccessorOf(long key) {
+            return () -> {
+                return get(key);
+            };
+        }
+
+    }
+
+    public interface Writable extends LongKeyedLong.Readable {
+
+        void set(long key, long value);
+
+        default LongConsumer writingAccessorOf(long key) {
+            return (long value) -> {
+                set(key, value);
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,167 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.liteEnumMap;
+
+import java.util.Arrays;
+
+/**
+ * Common Base of the LiteEnum-Maps tracking which Keys are present in a Bitmask.
+ *
+ * @author Simon Berndt
+ */
+abstract class AbstractLiteEnumMap<K extends Enum<K>> {
+
+    final Class<K> keyClass;
+    final K[] keys;
+    final long[] present;
+
+    int size;
+
+    AbstractLiteEnumMap(Class<K> keyClass, K[] keys) {
+	this.keyClass = keyClass;
+	this.keys = keys;
+	this.present = new long[wordCount(this.keys.length)];
+    }
+
+    static int wordCount(int bits) {
+	return (bits + Long.SIZE - 1) >>> 6;
+    }
+
+    public Class<K> getKeyClass() {
+	return this.keyClass;
+    }
+
+    public int size() {
+	return this.size;
+    }
+
+    public boolean isEmpty() {
+	return this.size == 0;
+    }
+
+    public boolean containsKey(K key) {
+	final int ordinal = key.ordinal();
+	return (this.present[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Removes the Key and resets its Value to the Default.
+     *
+     * @return whether the Key was present
+     */
+    public boolean remove(K key) {
+	final int ordinal = key.ordinal();
+	if (unmark(ordinal)) {
+	    clearValue(ordinal);
+	    return true;
+	}
+	return false;
+    }
+
+    public void clear() {
+	Arrays.fill(this.present, 0L);
+	this.size = 0;
+	clearValues();
+    }
+
+    abstract void clearValue(int ordinal);
+
+    abstract void clearValues();
+
+    final void mark(int ordinal) {
+	final int word = ordinal >>> 6;
+	final long bit = 1L << ordinal;
+	if ((this.present[word] & bit) == 0) {
+	    this.present[word] |= bit;
+	    this.size++;
+	}
+    }
+
+    final boolean unmark(int ordinal) {
+	final int word = ordinal >>> 6;
+	final long bit = 1L << ordinal;
+	if ((this.present[word] & bit) != 0) {
+	    this.present[word] &= ~bit;
+	    this.size--;
+	    return true;
+	}
+	return false;
+    }
+
+    final void markAll() {
+	if (this.present.length > 0) {
+	    Arrays.fill(this.present, -1L);
+	    this.present[this.present.length - 1] = -1L >>> (-this.keys.length & 63);
+	}
+	this.size = this.keys.length;
+    }
+
+    final boolean isFull() {
+	return this.size == this.keys.length;
+    }
+
+    /**
+     * Ordinal of the next present Key at or after the given Ordinal or -1.
+     */
+    final int nextPresent(int fromOrdinal) {
+	int word = fromOrdinal >>> 6;
+	if (word >= this.present.length) {
+	    return -1;
+	}
+	long bits = this.present[word] & (-1L << fromOrdinal);
+	while (bits == 0) {
+	    if (++word == this.present.length) {
+		return -1;
+	    }
+	    bits = this.present[word];
+	}
+	return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Takes over the Presence of the other Map and returns whether it simply can be copied as a whole, which is the Case
+     * if this Map is empty or the other is full.
+     */
+    final boolean mergePresence(AbstractLiteEnumMap<K> other) {
+	if (this.keyClass != other.keyClass) {
+	    throw new IllegalArgumentException("Key-Class " + other.keyClass.getName() + " does not match " + this.keyClass.getName());
+	}
+	final boolean wholesale = this.size == 0 || other.isFull();
+	this.size = 0;
+	for (int i = 0; i < this.present.length; i++) {
+	    this.present[i] |= other.present[i];
+	    this.size += Long.bitCount(this.present[i]);
+	}
+	return wholesale;
+    }
+
+    final boolean presenceEquals(AbstractLiteEnumMap<?> other) {
+	return this.keyClass == other.keyClass && this.size == other.size && Arrays.equals(this.present, other.present);
+    }
+
+    final int presenceHashCode() {
+	return 31 * this.keyClass.hashCode() + Arrays.hashCode(this.present);
+    }
+
+}
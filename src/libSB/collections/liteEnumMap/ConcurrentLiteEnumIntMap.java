@@ -0,0 +1,212 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.liteEnumMap;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import libSB.collections.keyed.KeyedInteger;
+
+/**
+ * Thread-safe LiteEnum-Map for Counters. Each Key lives on its own Cache-Line, so Threads bumping different Keys do not
+ * interfere with each other.
+ * <p>
+ * By Default every Update is a single atomic Instruction and {@link #snapshot()} is weakly consistent like
+ * {@link java.util.concurrent.atomic.LongAdder#sum()}: Updates running concurrently may or may not be included. Maps
+ * created with consistent Snapshots count the Updates in Flight on the second Slot of each Line instead, which lets a
+ * Snapshot hold back Updates for the Duration of one Pass over all Keys at the Cost of two more atomic Instructions
+ * per Update.
+ *
+ * @author Simon Berndt
+ */
+final public class ConcurrentLiteEnumIntMap<K extends Enum<K>> implements KeyedInteger.Writable<K> {
+
+    /**
+     * Ints per Cache-Line.
+     */
+    private static final int PADDING_SHIFT = 4;
+
+    private final Class<K> keyClass;
+    private final K[] keys;
+    private final int length;
+    private final AtomicIntegerArray vals;
+    // null unless Snapshots are consistent
+    private final SnapshotGate gate;
+
+    public ConcurrentLiteEnumIntMap(Class<K> keyClass) {
+	this(keyClass, false);
+    }
+
+    /**
+     * @param consistentSnapshots whether {@link #snapshot()} holds back Updates to see all Counters at the same Time
+     */
+    public ConcurrentLiteEnumIntMap(Class<K> keyClass, boolean consistentSnapshots) {
+	this.keyClass = keyClass;
+	this.gate = consistentSnapshots ? new SnapshotGate() : null;
+	this.keys = LiteEnumMaps.universe(keyClass);
+	this.length = this.keys.length;
+	this.vals = new AtomicIntegerArray((this.length + 1) << PADDING_SHIFT);
+    }
+
+    private static int index(int ordinal) {
+	return (ordinal + 1) << PADDING_SHIFT;
+    }
+
+    /**
+     * Registers an Update at the In-Flight-Slot, waiting for a running Snapshot first.
+     */
+    private void enter(int inFlight) {
+	while (true) {
+	    this.vals.incrementAndGet(inFlight);
+	    if (!this.gate.isClosed()) {
+		return;
+	    }
+	    this.vals.decrementAndGet(inFlight);
+	    this.gate.awaitOpen();
+	}
+    }
+
+    private void exit(int inFlight) {
+	this.vals.decrementAndGet(inFlight);
+    }
+
+    @Override
+    public void setValue(K key, Integer value) {
+	set(key, value);
+    }
+
+    @Override
+    public void set(K key, int value) {
+	final int index = index(key.ordinal());
+	if (this.gate == null) {
+	    this.vals.set(index, value);
+	    return;
+	}
+	enter(index + 1);
+	this.vals.set(index, value);
+	exit(index + 1);
+    }
+
+    @Override
+    public Integer getValue(K key) {
+	return get(key);
+    }
+
+    @Override
+    public int get(K key) {
+	return this.vals.get(index(key.ordinal()));
+    }
+
+    /**
+     * @return the incremented Value
+     */
+    public int increment(K key) {
+	final int index = index(key.ordinal());
+	if (this.gate == null) {
+	    return this.vals.incrementAndGet(index);
+	}
+	enter(index + 1);
+	final int result = this.vals.incrementAndGet(index);
+	exit(index + 1);
+	return result;
+    }
+
+    /**
+     * @return the decremented Value
+     */
+    public int decrement(K key) {
+	final int index = index(key.ordinal());
+	if (this.gate == null) {
+	    return this.vals.decrementAndGet(index);
+	}
+	enter(index + 1);
+	final int result = this.vals.decrementAndGet(index);
+	exit(index + 1);
+	return result;
+    }
+
+    /**
+     * @return the updated Value
+     */
+    public int add(K key, int delta) {
+	final int index = index(key.ordinal());
+	if (this.gate == null) {
+	    return this.vals.addAndGet(index, delta);
+	}
+	enter(index + 1);
+	final int result = this.vals.addAndGet(index, delta);
+	exit(index + 1);
+	return result;
+    }
+
+    /**
+     * Atomically resets the Key to zero.
+     *
+     * @return the Value before the Reset
+     */
+    public int reset(K key) {
+	final int index = index(key.ordinal());
+	if (this.gate == null) {
+	    return this.vals.getAndSet(index, 0);
+	}
+	enter(index + 1);
+	final int result = this.vals.getAndSet(index, 0);
+	exit(index + 1);
+	return result;
+    }
+
+    public LiteEnumIntMap<K> snapshot() {
+	final LiteEnumIntMap<K> snapshot = new LiteEnumIntMap<>(this.keyClass, this.keys);
+	snapshotInto(snapshot);
+	return snapshot;
+    }
+
+    /**
+     * Reads all Counters. Only for Maps created with consistent Snapshots the Result is a State all Counters were in at
+     * the same Time, Updates arriving meanwhile wait until the Pass is done. Otherwise the Pass is weakly consistent.
+     */
+    public void snapshotInto(LiteEnumIntMap<K> target) {
+	if (this.gate == null) {
+	    collectInto(target);
+	    return;
+	}
+	this.gate.close();
+	try {
+	    for (int ordinal = 0; ordinal < this.length; ordinal++) {
+		final int inFlight = index(ordinal) + 1;
+		while (this.vals.get(inFlight) != 0) {
+		    Thread.yield();
+		}
+	    }
+	    collectInto(target);
+	} finally {
+	    this.gate.open();
+	}
+    }
+
+    private void collectInto(LiteEnumIntMap<K> target) {
+	for (int ordinal = 0; ordinal < this.length; ordinal++) {
+	    target.set(this.keys[ordinal], this.vals.get(index(ordinal)));
+	}
+    }
+
+}
@@ -23,45 +23,149 @@
  */
 package libSB.collections.liteEnumMap;
 
-import java.util.BitSet;
+import java.util.Arrays;
 import libSB.collections.keyed.KeyedBoolean;
+import libSB.functionalInterface.primitives.consumer.ObjBooleanConsumer;
+import libSB.functionalInterface.primitives.operator.BooleanBinaryOperator;
+import libSB.functionalInterface.primitives.operator.BooleanUnaryOperator;
 
 /**
  *
  * @author Simon Berndt
  */
-final public class LiteEnumBooleanMap<K extends Enum<K>> implements KeyedBoolean.Writable<K> {
+final public class LiteEnumBooleanMap<K extends Enum<K>> extends AbstractLiteEnumMap<K> implements KeyedBoolean.Writable<K> {
 
-    private final BitSet vals;
-    private final int length;
+    private final long[] vals;
 
     public LiteEnumBooleanMap(Class<K> keyClass) {
-	this.length = keyClass.getEnumConstants().length;
-        this.vals = new BitSet(this.length);
+	this(keyClass, LiteEnumMaps.universe(keyClass));
+    }
+
+    LiteEnumBooleanMap(Class<K> keyClass, K[] keys) {
+	super(keyClass, keys);
+	this.vals = new long[wordCount(this.keys.length)];
     }
 
     @Override
     public void setValue(K key, Boolean value) {
-        this.vals.set(key.ordinal(), value);
+	set(key, value);
     }
 
     @Override
     public void set(K key, boolean value) {
-        this.vals.set(key.ordinal(), value);
+	final int ordinal = key.ordinal();
+	store(ordinal, value);
+	mark(ordinal);
     }
 
     public void setAll(boolean value) {
-        this.vals.set(0, this.length - 1, value);
+	Arrays.fill(this.vals, value ? -1L : 0L);
+	if (value && this.vals.length > 0) {
+	    this.vals[this.vals.length - 1] = -1L >>> (-this.keys.length & 63);
+	}
+	markAll();
     }
 
     @Override
     public Boolean getValue(K key) {
-	return this.vals.get(key.ordinal());
+	return get(key);
     }
 
     @Override
     public boolean get(K key) {
-	return this.vals.get(key.ordinal());
+	return load(key.ordinal());
+    }
+
+    public boolean getOrDefault(K key, boolean defaultValue) {
+	return containsKey(key) ? get(key) : defaultValue;
+    }
+
+    /**
+     * Stores the Value if the Key is absent, otherwise the Result of the Remapping-Function applied to the current and
+     * the given Value.
+     *
+     * @return the new Value
+     */
+    public boolean merge(K key, boolean value, BooleanBinaryOperator remappingFunction) {
+	final int ordinal = key.ordinal();
+	final boolean result = containsKey(key) ? remappingFunction.applyAsBoolean(load(ordinal), value) : value;
+	store(ordinal, result);
+	mark(ordinal);
+	return result;
+    }
+
+    /**
+     * Stores the Result of the Remapping-Function applied to the current Value, which is false for an absent Key.
+     *
+     * @return the new Value
+     */
+    public boolean compute(K key, BooleanUnaryOperator remappingFunction) {
+	final int ordinal = key.ordinal();
+	final boolean result = remappingFunction.applyAsBoolean(load(ordinal));
+	store(ordinal, result);
+	mark(ordinal);
+	return result;
+    }
+
+    /**
+     * Copies all present Entries of the other Map into this one.
+     */
+    public void putAll(LiteEnumBooleanMap<K> other) {
+	if (mergePresence(other)) {
+	    System.arraycopy(other.vals, 0, this.vals, 0, this.vals.length);
+	} else {
+	    for (int i = 0; i < this.vals.length; i++) {
+		this.vals[i] = (this.vals[i] & ~other.present[i]) | (other.vals[i] & other.present[i]);
+	    }
+	}
+    }
+
+    /**
+     * Visits all present Entries in Ordinal-Order.
+     */
+    public void forEach(ObjBooleanConsumer<? super K> action) {
+	for (int ordinal = nextPresent(0); ordinal >= 0; ordinal = nextPresent(ordinal + 1)) {
+	    action.accept(this.keys[ordinal], load(ordinal));
+	}
+    }
+
+    private boolean load(int ordinal) {
+	return (this.vals[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    private void store(int ordinal, boolean value) {
+	if (value) {
+	    this.vals[ordinal >>> 6] |= 1L << ordinal;
+	} else {
+	    this.vals[ordinal >>> 6] &= ~(1L << ordinal);
+	}
+    }
+
+    @Override
+    void clearValue(int ordinal) {
+	store(ordinal, false);
+    }
+
+    @Override
+    void clearValues() {
+	Arrays.fill(this.vals, 0L);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+	if (this == obj) {
+	    return true;
+	}
+	if (!(obj instanceof LiteEnumBooleanMap)) {
+	    return false;
+	}
+	final LiteEnumBooleanMap<?> other = (LiteEnumBooleanMap<?>) obj;
+	return presenceEquals(other) && Arrays.equals(this.vals, other.vals);
+    }
+
+    @Override
+    public int hashCode() {
+	return 31 * presenceHashCode() + Arrays.hashCode(this.vals);
     }
 
 }
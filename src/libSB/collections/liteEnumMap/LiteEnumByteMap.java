@@ -24,32 +24,43 @@
 package libSB.collections.liteEnumMap;
 
 import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
 import libSB.collections.keyed.KeyedByte;
+import libSB.functionalInterface.primitives.consumer.ObjByteConsumer;
 
 /**
  *
  * @author Simon Berndt
  */
-final public class LiteEnumByteMap<K extends Enum<K>> implements KeyedByte.Writable<K> {
+final public class LiteEnumByteMap<K extends Enum<K>> extends AbstractLiteEnumMap<K> implements KeyedByte.Writable<K> {
 
     private final byte[] vals;
 
     public LiteEnumByteMap(Class<K> keyClass) {
-        this.vals = new byte[keyClass.getEnumConstants().length];
+	this(keyClass, LiteEnumMaps.universe(keyClass));
+    }
+
+    LiteEnumByteMap(Class<K> keyClass, K[] keys) {
+	super(keyClass, keys);
+	this.vals = new byte[this.keys.length];
     }
 
     @Override
     public void setValue(K key, Byte value) {
-        this.vals[key.ordinal()] = value;
+	set(key, value);
     }
 
     @Override
     public void set(K key, byte value) {
-        this.vals[key.ordinal()] = value;
+	final int ordinal = key.ordinal();
+	this.vals[ordinal] = value;
+	mark(ordinal);
     }
 
     public void setAll(byte value) {
 	Arrays.fill(this.vals, value);
+	markAll();
     }
 
     @Override
@@ -62,4 +73,86 @@ final public class LiteEnumByteMap<K extends Enum<K>> implements KeyedByte.Writa
 	return this.vals[key.ordinal()];
     }
 
+    public byte getOrDefault(K key, byte defaultValue) {
+	return containsKey(key) ? this.vals[key.ordinal()] : defaultValue;
+    }
+
+    /**
+     * Stores the Value if the Key is absent, otherwise the Result of the Remapping-Function applied to the current and
+     * the given Value.
+     *
+     * @return the new Value
+     */
+    public byte merge(K key, byte value, IntBinaryOperator remappingFunction) {
+	final int ordinal = key.ordinal();
+	if (containsKey(key)) {
+	    this.vals[ordinal] = (byte) remappingFunction.applyAsInt(this.vals[ordinal], value);
+	} else {
+	    this.vals[ordinal] = value;
+	    mark(ordinal);
+	}
+	return this.vals[ordinal];
+    }
+
+    /**
+     * Stores the Result of the Remapping-Function applied to the current Value, which is (byte) 0 for an absent Key.
+     *
+     * @return the new Value
+     */
+    public byte compute(K key, IntUnaryOperator remappingFunction) {
+	final int ordinal = key.ordinal();
+	this.vals[ordinal] = (byte) remappingFunction.applyAsInt(this.vals[ordinal]);
+	mark(ordinal);
+	return this.vals[ordinal];
+    }
+
+    /**
+     * Copies all present Entries of the other Map into this one.
+     */
+    public void putAll(LiteEnumByteMap<K> other) {
+	if (mergePresence(other)) {
+	    System.arraycopy(other.vals, 0, this.vals, 0, this.vals.length);
+	} else {
+	    for (int ordinal = other.nextPresent(0); ordinal >= 0; ordinal = other.nextPresent(ordinal + 1)) {
+		this.vals[ordinal] = other.vals[ordinal];
+	    }
+	}
+    }
+
+    /**
+     * Visits all present Entries in Ordinal-Order.
+     */
+    public void forEach(ObjByteConsumer<? super K> action) {
+	for (int ordinal = nextPresent(0); ordinal >= 0; ordinal = nextPresent(ordinal + 1)) {
+	    action.accept(this.keys[ordinal], this.vals[ordinal]);
+	}
+    }
+
+    @Override
+    void clearValue(int ordinal) {
+	this.vals[ordinal] = (byte) 0;
+    }
+
+    @Override
+    void clearValues() {
+	Arrays.fill(this.vals, (byte) 0);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+	if (this == obj) {
+	    return true;
+	}
+	if (!(obj instanceof LiteEnumByteMap)) {
+	    return false;
+	}
+	final LiteEnumByteMap<?> other = (LiteEnumByteMap<?>) obj;
+	return presenceEquals(other) && Arrays.equals(this.vals, other.vals);
+    }
+
+    @Override
+    public int hashCode() {
+	return 31 * presenceHashCode() + Arrays.hashCode(this.vals);
+    }
+
 }
@@ -24,32 +24,43 @@
 package libSB.collections.liteEnumMap;
 
 import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
 import libSB.collections.keyed.KeyedDouble;
 
 /**
  *
  * @author Simon Berndt
  */
-final public class LiteEnumDoubleMap<K extends Enum<K>> implements KeyedDouble.Writable<K> {
+final public class LiteEnumDoubleMap<K extends Enum<K>> extends AbstractLiteEnumMap<K> implements KeyedDouble.Writable<K> {
 
     private final double[] vals;
 
     public LiteEnumDoubleMap(Class<K> keyClass) {
-        this.vals = new double[keyClass.getEnumConstants().length];
+	this(keyClass, LiteEnumMaps.universe(keyClass));
+    }
+
+    LiteEnumDoubleMap(Class<K> keyClass, K[] keys) {
+	super(keyClass, keys);
+	this.vals = new double[this.keys.length];
     }
 
     @Override
     public void setValue(K key, Double value) {
-        this.vals[key.ordinal()] = value;
+	set(key, value);
     }
 
     @Override
     public void set(K key, double value) {
-        this.vals[key.ordinal()] = value;
+	final int ordinal = key.ordinal();
+	this.vals[ordinal] = value;
+	mark(ordinal);
     }
 
     public void setAll(double value) {
 	Arrays.fill(this.vals, value);
+	markAll();
     }
 
     @Override
@@ -62,4 +73,86 @@ final public class LiteEnumDoubleMap<K extends Enum<K>> implements KeyedDouble.W
 	return this.vals[key.ordinal()];
     }
 
+    public double getOrDefault(K key, double defaultValue) {
+	return containsKey(key) ? this.vals[key.ordinal()] : defaultValue;
+    }
+
+    /**
+     * Stores the Value if the Key is absent, otherwise the Result of the Remapping-Function applied to the current and
+     * the given Value.
+     *
+     * @return the new Value
+     */
+    public double merge(K key, double value, DoubleBinaryOperator remappingFunction) {
+	final int ordinal = key.ordinal();
+	if (containsKey(key)) {
+	    this.vals[ordinal] = remappingFunction.applyAsDouble(this.vals[ordinal], value);
+	} else {
+	    this.vals[ordinal] = value;
+	    mark(ordinal);
+	}
+	return this.vals[ordinal];
+    }
+
+    /**
+     * Stores the Result of the Remapping-Function applied to the current Value, which is 0.0 for an absent Key.
+     *
+     * @return the new Value
+     */
+    public double compute(K key, DoubleUnaryOperator remappingFunction) {
+	final int ordinal = key.ordinal();
+	this.vals[ordinal] = remappingFunction.applyAsDouble(this.vals[ordinal]);
+	mark(ordinal);
+	return this.vals[ordinal];
+    }
+
+    /**
+     * Copies all present Entries of the other Map into this one.
+     */
+    public void putAll(LiteEnumDoubleMap<K> other) {
+	if (mergePresence(other)) {
+	    System.arraycopy(other.vals, 0, this.vals, 0, this.vals.length);
+	} else {
+	    for (int ordinal = other.nextPresent(0); ordinal >= 0; ordinal = other.nextPresent(ordinal + 1)) {
+		this.vals[ordinal] = other.vals[ordinal];
+	    }
+	}
+    }
+
+    /**
+     * Visits all present Entries in Ordinal-Order.
+     */
+    public void forEach(ObjDoubleConsumer<? super K> action) {
+	for (int ordinal = nextPresent(0); ordinal >= 0; ordinal = nextPresent(ordinal + 1)) {
+	    action.accept(this.keys[ordinal], this.vals[ordinal]);
+	}
+    }
+
+    @Override
+    void clearValue(int ordinal) {
+	this.vals[ordinal] = 0.0;
+    }
+
+    @Override
+    void clearValues() {
+	Arrays.fill(this.vals, 0.0);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+	if (this == obj) {
+	    return true;
+	}
+	if (!(obj instanceof LiteEnumDoubleMap)) {
+	    return false;
+	}
+	final LiteEnumDoubleMap<?> other = (LiteEnumDoubleMap<?>) obj;
+	return presenceEquals(other) && Arrays.equals(this.vals, other.vals);
+    }
+
+    @Override
+    public int hashCode() {
+	return 31 * presenceHashCode() + Arrays.hashCode(this.vals);
+    }
+
 }
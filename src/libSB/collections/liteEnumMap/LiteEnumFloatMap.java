@@ -25,31 +25,42 @@ package libSB.collections.liteEnumMap;
 
 import java.util.Arrays;
 import libSB.collections.keyed.KeyedFloat;
+import libSB.functionalInterface.primitives.consumer.ObjFloatConsumer;
+import libSB.functionalInterface.primitives.operator.FloatBinaryOperator;
+import libSB.functionalInterface.primitives.operator.FloatUnaryOperator;
 
 /**
  *
  * @author Simon Berndt
  */
-final public class LiteEnumFloatMap<K extends Enum<K>> implements KeyedFloat.Writable<K> {
+final public class LiteEnumFloatMap<K extends Enum<K>> extends AbstractLiteEnumMap<K> implements KeyedFloat.Writable<K> {
 
     private final float[] vals;
 
     public LiteEnumFloatMap(Class<K> keyClass) {
-        this.vals = new float[keyClass.getEnumConstants().length];
+	this(keyClass, LiteEnumMaps.universe(keyClass));
+    }
+
+    LiteEnumFloatMap(Class<K> keyClass, K[] keys) {
+	super(keyClass, keys);
+	this.vals = new float[this.keys.length];
     }
 
     @Override
     public void setValue(K key, Float value) {
-        this.vals[key.ordinal()] = value;
+	set(key, value);
     }
 
     @Override
     public void set(K key, float value) {
-        this.vals[key.ordinal()] = value;
+	final int ordinal = key.ordinal();
+	this.vals[ordinal] = value;
+	mark(ordinal);
     }
 
     public void setAll(float value) {
 	Arrays.fill(this.vals, value);
+	markAll();
     }
 
     @Override
@@ -62,4 +73,86 @@ final public class LiteEnumFloatMap<K extends Enum<K>> implements KeyedFloat.Wri
 	return this.vals[key.ordinal()];
     }
 
+    public float getOrDefault(K key, float defaultValue) {
+	return containsKey(key) ? this.vals[key.ordinal()] : defaultValue;
+    }
+
+    /**
+     * Stores the Value if the Key is absent, otherwise the Result of the Remapping-Function applied to the current and
+     * the given Value.
+     *
+     * @return the new Value
+     */
+    public float merge(K key, float value, FloatBinaryOperator remappingFunction) {
+	final int ordinal = key.ordinal();
+	if (containsKey(key)) {
+	    this.vals[ordinal] = remappingFunction.applyAsFloat(this.vals[ordinal], value);
+	} else {
+	    this.vals[ordinal] = value;
+	    mark(ordinal);
+	}
+	return this.vals[ordinal];
+    }
+
+    /**
+     * Stores the Result of the Remapping-Function applied to the current Value, which is 0.0f for an absent Key.
+     *
+     * @return the new Value
+     */
+    public float compute(K key, FloatUnaryOperator remappingFunction) {
+	final int ordinal = key.ordinal();
+	this.vals[ordinal] = remappingFunction.applyAsFloat(this.vals[ordinal]);
+	mark(ordinal);
+	return this.vals[ordinal];
+    }
+
+    /**
+     * Copies all present Entries of the other Map into this one.
+     */
+    public void putAll(LiteEnumFloatMap<K> other) {
+	if (mergePresence(other)) {
+	    System.arraycopy(other.vals, 0, this.vals, 0, this.vals.length);
+	} else {
+	    for (int ordinal = other.nextPresent(0); ordinal >= 0; ordinal = other.nextPresent(ordinal + 1)) {
+		this.vals[ordinal] = other.vals[ordinal];
+	    }
+	}
+    }
+
+    /**
+     * Visits all present Entries in Ordinal-Order.
+     */
+    public void forEach(ObjFloatConsumer<? super K> action) {
+	for (int ordinal = nextPresent(0); ordinal >= 0; ordinal = nextPresent(ordinal + 1)) {
+	    action.accept(this.keys[ordinal], this.vals[ordinal]);
+	}
+    }
+
+    @Override
+    void clearValue(int ordinal) {
+	this.vals[ordinal] = 0.0f;
+    }
+
+    @Override
+    void clearValues() {
+	Arrays.fill(this.vals, 0.0f);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+	if (this == obj) {
+	    return true;
+	}
+	if (!(obj instanceof LiteEnumFloatMap)) {
+	    return false;
+	}
+	final LiteEnumFloatMap<?> other = (LiteEnumFloatMap<?>) obj;
+	return presenceEquals(other) && Arrays.equals(this.vals, other.vals);
+    }
+
+    @Override
+    public int hashCode() {
+	return 31 * presenceHashCode() + Arrays.hashCode(this.vals);
+    }
+
 }
@@ -24,32 +24,43 @@
 package libSB.collections.liteEnumMap;
 
 import java.util.Arrays;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjLongConsumer;
 import libSB.collections.keyed.KeyedLong;
 
 /**
  *
  * @author Simon Berndt
  */
-final public class LiteEnumLongMap<K extends Enum<K>> implements KeyedLong.Writable<K> {
+final public class LiteEnumLongMap<K extends Enum<K>> extends AbstractLiteEnumMap<K> implements KeyedLong.Writable<K> {
 
     private final long[] vals;
 
     public LiteEnumLongMap(Class<K> keyClass) {
-        this.vals = new long[keyClass.getEnumConstants().length];
+	this(keyClass, LiteEnumMaps.universe(keyClass));
+    }
+
+    LiteEnumLongMap(Class<K> keyClass, K[] keys) {
+	super(keyClass, keys);
+	this.vals = new long[this.keys.length];
     }
 
     @Override
     public void setValue(K key, Long value) {
-        this.vals[key.ordinal()] = value;
+	set(key, value);
     }
 
     @Override
     public void set(K key, long value) {
-        this.vals[key.ordinal()] = value;
+	final int ordinal = key.ordinal();
+	this.vals[ordinal] = value;
+	mark(ordinal);
     }
 
     public void setAll(long value) {
 	Arrays.fill(this.vals, value);
+	markAll();
     }
 
     @Override
@@ -62,4 +73,86 @@ final public class LiteEnumLongMap<K extends Enum<K>> implements KeyedLong.Writa
 	return this.vals[key.ordinal()];
     }
 
+    public long getOrDefault(K key, long defaultValue) {
+	return containsKey(key) ? this.vals[key.ordinal()] : defaultValue;
+    }
+
+    /**
+     * Stores the Value if the Key is absent, otherwise the Result of the Remapping-Function applied to the current and
+     * the given Value.
+     *
+     * @return the new Value
+     */
+    public long merge(K key, long value, LongBinaryOperator remappingFunction) {
+	final int ordinal = key.ordinal();
+	if (containsKey(key)) {
+	    this.vals[ordinal] = remappingFunction.applyAsLong(this.vals[ordinal], value);
+	} else {
+	    this.vals[ordinal] = value;
+	    mark(ordinal);
+	}
+	return this.vals[ordinal];
+    }
+
+    /**
+     * Stores the Result of the Remapping-Function applied to the current Value, which is 0L for an absent Key.
+     *
+     * @return the new Value
+     */
+    public long compute(K key, LongUnaryOperator remappingFunction) {
+	final int ordinal = key.ordinal();
+	this.vals[ordinal] = remappingFunction.applyAsLong(this.vals[ordinal]);
+	mark(ordinal);
+	return this.vals[ordinal];
+    }
+
+    /**
+     * Copies all present Entries of the other Map into this one.
+     */
+    public void putAll(LiteEnumLongMap<K> other) {
+	if (mergePresence(other)) {
+	    System.arraycopy(other.vals, 0, this.vals, 0, this.vals.length);
+	} else {
+	    for (int ordinal = other.nextPresent(0); ordinal >= 0; ordinal = other.nextPresent(ordinal + 1)) {
+		this.vals[ordinal] = other.vals[ordinal];
+	    }
+	}
+    }
+
+    /**
+     * Visits all present Entries in Ordinal-Order.
+     */
+    public void forEach(ObjLongConsumer<? super K> action) {
+	for (int ordinal = nextPresent(0); ordinal >= 0; ordinal = nextPresent(ordinal + 1)) {
+	    action.accept(this.keys[ordinal], this.vals[ordinal]);
+	}
+    }
+
+    @Override
+    void clearValue(int ordinal) {
+	this.vals[ordinal] = 0L;
+    }
+
+    @Override
+    void clearValues() {
+	Arrays.fill(this.vals, 0L);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+	if (this == obj) {
+	    return true;
+	}
+	if (!(obj instanceof LiteEnumLongMap)) {
+	    return false;
+	}
+	final LiteEnumLongMap<?> other = (LiteEnumLongMap<?>) obj;
+	return presenceEquals(other) && Arrays.equals(this.vals, other.vals);
+    }
+
+    @Override
+    public int hashCode() {
+	return 31 * presenceHashCode() + Arrays.hashCode(this.vals);
+    }
+
 }
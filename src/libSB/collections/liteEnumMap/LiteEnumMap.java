@@ -23,23 +23,33 @@
  */
 package libSB.collections.liteEnumMap;
 
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import libSB.collections.keyed.Keyed;
 
 /**
  *
  * @author Simon Berndt
  */
-final public class LiteEnumMap<K extends Enum<K>, V> implements Keyed.Writable<K, V> {
+final public class LiteEnumMap<K extends Enum<K>, V> extends AbstractLiteEnumMap<K> implements Keyed.Writable<K, V> {
 
     private final Object[] vals;
 
     public LiteEnumMap(Class<K> keyClass) {
-        this.vals = new Object[keyClass.getEnumConstants().length];
+	this(keyClass, LiteEnumMaps.universe(keyClass));
+    }
+
+    LiteEnumMap(Class<K> keyClass, K[] keys) {
+	super(keyClass, keys);
+	this.vals = new Object[this.keys.length];
     }
 
     @Override
     public void setValue(K key, V value) {
-        this.vals[key.ordinal()] = value;
+	final int ordinal = key.ordinal();
+	this.vals[ordinal] = value;
+	mark(ordinal);
     }
 
     @Override
@@ -48,4 +58,87 @@ final public class LiteEnumMap<K extends Enum<K>, V> implements Keyed.Writable<K
 	return (V) this.vals[key.ordinal()];
     }
 
+    public V getOrDefault(K key, V defaultValue) {
+	return containsKey(key) ? getValue(key) : defaultValue;
+    }
+
+    /**
+     * Same Semantic as {@link java.util.Map#merge}: a null Result removes the Key.
+     *
+     * @return the new Value
+     */
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+	final V oldValue = getValue(key);
+	final V newValue = oldValue == null ? value : remappingFunction.apply(oldValue, value);
+	return store(key, newValue);
+    }
+
+    /**
+     * Same Semantic as {@link java.util.Map#compute}: a null Result removes the Key.
+     *
+     * @return the new Value
+     */
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+	return store(key, remappingFunction.apply(key, getValue(key)));
+    }
+
+    private V store(K key, V value) {
+	if (value == null) {
+	    remove(key);
+	} else {
+	    setValue(key, value);
+	}
+	return value;
+    }
+
+    /**
+     * Copies all present Entries of the other Map into this one.
+     */
+    public void putAll(LiteEnumMap<K, ? extends V> other) {
+	if (mergePresence(other)) {
+	    System.arraycopy(other.vals, 0, this.vals, 0, this.vals.length);
+	} else {
+	    for (int ordinal = other.nextPresent(0); ordinal >= 0; ordinal = other.nextPresent(ordinal + 1)) {
+		this.vals[ordinal] = other.vals[ordinal];
+	    }
+	}
+    }
+
+    /**
+     * Visits all present Entries in Ordinal-Order.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+	for (int ordinal = nextPresent(0); ordinal >= 0; ordinal = nextPresent(ordinal + 1)) {
+	    action.accept(this.keys[ordinal], (V) this.vals[ordinal]);
+	}
+    }
+
+    @Override
+    void clearValue(int ordinal) {
+	this.vals[ordinal] = null;
+    }
+
+    @Override
+    void clearValues() {
+	Arrays.fill(this.vals, null);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+	if (this == obj) {
+	    return true;
+	}
+	if (!(obj instanceof LiteEnumMap)) {
+	    return false;
+	}
+	final LiteEnumMap<?, ?> other = (LiteEnumMap<?, ?>) obj;
+	return presenceEquals(other) && Arrays.equals(this.vals, other.vals);
+    }
+
+    @Override
+    public int hashCode() {
+	return 31 * presenceHashCode() + Arrays.hashCode(this.vals);
+    }
+
 }
@@ -0,0 +1,131 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.liteEnumMap;
+
+/**
+ * Entry-Point for creating LiteEnum-Maps without asking the Key-Class for its Constants every Time. The Constants of
+ * each Key-Class are fetched once and cached in a {@link ClassValue}, so creating a Map allocates its Arrays and nothing
+ * else. Maps are reusable through {@code clear()}, which resets them without allocating.
+ *
+ * @author Simon Berndt
+ */
+public final class LiteEnumMaps {
+
+    private static final ClassValue<Factory<?>> FACTORIES = new ClassValue<Factory<?>>() {
+
+	@Override
+	protected Factory<?> computeValue(Class<?> type) {
+	    return createFactory(type);
+	}
+
+    };
+
+    private LiteEnumMaps() {
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Factory<?> createFactory(Class<?> type) {
+	if (!type.isEnum()) {
+	    throw new IllegalArgumentException(type.getName() + " is not an Enum");
+	}
+	return new Factory(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K extends Enum<K>> Factory<K> factoryFor(Class<K> keyClass) {
+	return (Factory<K>) FACTORIES.get(keyClass);
+    }
+
+    /**
+     * Shared Constants of the Key-Class. Must never be modified.
+     */
+    static <K extends Enum<K>> K[] universe(Class<K> keyClass) {
+	return factoryFor(keyClass).keys;
+    }
+
+    public static final class Factory<K extends Enum<K>> {
+
+	private final Class<K> keyClass;
+	private final K[] keys;
+
+	private Factory(Class<K> keyClass) {
+	    this.keyClass = keyClass;
+	    this.keys = keyClass.getEnumConstants();
+	}
+
+	public Class<K> getKeyClass() {
+	    return this.keyClass;
+	}
+
+	public int getKeyCount() {
+	    return this.keys.length;
+	}
+
+	public K getKey(int ordinal) {
+	    return this.keys[ordinal];
+	}
+
+	public LiteEnumSet<K> newSet() {
+	    return new LiteEnumSet<>(this.keyClass, this.keys);
+	}
+
+	public <V> LiteEnumMap<K, V> newMap() {
+	    return new LiteEnumMap<>(this.keyClass, this.keys);
+	}
+
+	public LiteEnumBooleanMap<K> newBooleanMap() {
+	    return new LiteEnumBooleanMap<>(this.keyClass, this.keys);
+	}
+
+	public LiteEnumByteMap<K> newByteMap() {
+	    return new LiteEnumByteMap<>(this.keyClass, this.keys);
+	}
+
+	public LiteEnumCharacterMap<K> newCharacterMap() {
+	    return new LiteEnumCharacterMap<>(this.keyClass, this.keys);
+	}
+
+	public LiteEnumShortMap<K> newShortMap() {
+	    return new LiteEnumShortMap<>(this.keyClass, this.keys);
+	}
+
+	public LiteEnumIntMap<K> newIntMap() {
+	    return new LiteEnumIntMap<>(this.keyClass, this.keys);
+	}
+
+	public LiteEnumLongMap<K> newLongMap() {
+	    return new LiteEnumLongMap<>(this.keyClass, this.keys);
+	}
+
+	public LiteEnumFloatMap<K> newFloatMap() {
+	    return new LiteEnumFloatMap<>(this.keyClass, this.keys);
+	}
+
+	public LiteEnumDoubleMap<K> newDoubleMap() {
+	    return new LiteEnumDoubleMap<>(this.keyClass, this.keys);
+	}
+
+    }
+
+}
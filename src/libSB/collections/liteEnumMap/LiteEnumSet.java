@@ -0,0 +1,334 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.liteEnumMap;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import libSB.collections.keyed.KeyedBoolean;
+
+/**
+ * Bit-packed Set of Enum-Constants. Set-Operations work on whole Words and can be used as a KeyedBoolean where a Key
+ * maps to true if it is contained.
+ *
+ * @author Simon Berndt
+ */
+final public class LiteEnumSet<K extends Enum<K>> implements KeyedBoolean.Writable<K>, Iterable<K> {
+
+    private final Class<K> keyClass;
+    private final K[] keys;
+    private final long[] words;
+
+    public LiteEnumSet(Class<K> keyClass) {
+	this(keyClass, LiteEnumMaps.universe(keyClass));
+    }
+
+    LiteEnumSet(Class<K> keyClass, K[] keys) {
+	this.keyClass = keyClass;
+	this.keys = keys;
+	this.words = new long[AbstractLiteEnumMap.wordCount(keys.length)];
+    }
+
+    @SafeVarargs
+    public static <K extends Enum<K>> LiteEnumSet<K> of(Class<K> keyClass, K... keys) {
+	final LiteEnumSet<K> set = new LiteEnumSet<>(keyClass);
+	for (K key : keys) {
+	    set.add(key);
+	}
+	return set;
+    }
+
+    public static <K extends Enum<K>> LiteEnumSet<K> allOf(Class<K> keyClass) {
+	final LiteEnumSet<K> set = new LiteEnumSet<>(keyClass);
+	set.fill();
+	return set;
+    }
+
+    public Class<K> getKeyClass() {
+	return this.keyClass;
+    }
+
+    @Override
+    public void setValue(K key, Boolean value) {
+	set(key, value);
+    }
+
+    @Override
+    public void set(K key, boolean value) {
+	if (value) {
+	    add(key);
+	} else {
+	    remove(key);
+	}
+    }
+
+    @Override
+    public Boolean getValue(K key) {
+	return contains(key);
+    }
+
+    @Override
+    public boolean get(K key) {
+	return contains(key);
+    }
+
+    public boolean contains(K key) {
+	final int ordinal = key.ordinal();
+	return (this.words[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * @return whether the Key was not yet contained
+     */
+    public boolean add(K key) {
+	final int ordinal = key.ordinal();
+	final long old = this.words[ordinal >>> 6];
+	this.words[ordinal >>> 6] = old | (1L << ordinal);
+	return (old & (1L << ordinal)) == 0;
+    }
+
+    /**
+     * @return whether the Key was contained
+     */
+    public boolean remove(K key) {
+	final int ordinal = key.ordinal();
+	final long old = this.words[ordinal >>> 6];
+	this.words[ordinal >>> 6] = old & ~(1L << ordinal);
+	return (old & (1L << ordinal)) != 0;
+    }
+
+    public int cardinality() {
+	int cardinality = 0;
+	for (long word : this.words) {
+	    cardinality += Long.bitCount(word);
+	}
+	return cardinality;
+    }
+
+    public boolean isEmpty() {
+	for (long word : this.words) {
+	    if (word != 0) {
+		return false;
+	    }
+	}
+	return true;
+    }
+
+    public void clear() {
+	Arrays.fill(this.words, 0L);
+    }
+
+    /**
+     * Adds all Keys.
+     */
+    public void fill() {
+	Arrays.fill(this.words, -1L);
+	trimLastWord();
+    }
+
+    /**
+     * Inverts this Set in place, so it contains exactly the Keys it did not contain before.
+     */
+    public void complement() {
+	for (int i = 0; i < this.words.length; i++) {
+	    this.words[i] = ~this.words[i];
+	}
+	trimLastWord();
+    }
+
+    private void trimLastWord() {
+	if (this.words.length > 0) {
+	    this.words[this.words.length - 1] &= -1L >>> (-this.keys.length & 63);
+	}
+    }
+
+    /**
+     * Union with the other Set in place.
+     */
+    public void addAll(LiteEnumSet<K> other) {
+	checkKeyClass(other);
+	for (int i = 0; i < this.words.length; i++) {
+	    this.words[i] |= other.words[i];
+	}
+    }
+
+    /**
+     * Intersection with the other Set in place.
+     */
+    public void retainAll(LiteEnumSet<K> other) {
+	checkKeyClass(other);
+	for (int i = 0; i < this.words.length; i++) {
+	    this.words[i] &= other.words[i];
+	}
+    }
+
+    /**
+     * Difference to the other Set in place.
+     */
+    public void removeAll(LiteEnumSet<K> other) {
+	checkKeyClass(other);
+	for (int i = 0; i < this.words.length; i++) {
+	    this.words[i] &= ~other.words[i];
+	}
+    }
+
+    /**
+     * Symmetric Difference with the other Set in place.
+     */
+    public void toggleAll(LiteEnumSet<K> other) {
+	checkKeyClass(other);
+	for (int i = 0; i < this.words.length; i++) {
+	    this.words[i] ^= other.words[i];
+	}
+    }
+
+    public boolean containsAll(LiteEnumSet<K> other) {
+	checkKeyClass(other);
+	for (int i = 0; i < this.words.length; i++) {
+	    if ((other.words[i] & ~this.words[i]) != 0) {
+		return false;
+	    }
+	}
+	return true;
+    }
+
+    public boolean intersects(LiteEnumSet<K> other) {
+	checkKeyClass(other);
+	for (int i = 0; i < this.words.length; i++) {
+	    if ((other.words[i] & this.words[i]) != 0) {
+		return true;
+	    }
+	}
+	return false;
+    }
+
+    private void checkKeyClass(LiteEnumSet<K> other) {
+	if (this.keyClass != other.keyClass) {
+	    throw new IllegalArgumentException("Key-Class " + other.keyClass.getName() + " does not match " + this.keyClass.getName());
+	}
+    }
+
+    public LiteEnumSet<K> copy() {
+	final LiteEnumSet<K> copy = new LiteEnumSet<>(this.keyClass, this.keys);
+	System.arraycopy(this.words, 0, copy.words, 0, this.words.length);
+	return copy;
+    }
+
+    /**
+     * Ordinal of the next contained Key at or after the given Ordinal or -1.
+     */
+    public int nextOrdinal(int fromOrdinal) {
+	int word = fromOrdinal >>> 6;
+	if (word >= this.words.length) {
+	    return -1;
+	}
+	long bits = this.words[word] & (-1L << fromOrdinal);
+	while (bits == 0) {
+	    if (++word == this.words.length) {
+		return -1;
+	    }
+	    bits = this.words[word];
+	}
+	return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Visits all contained Keys in Ordinal-Order without allocating.
+     */
+    @Override
+    public void forEach(Consumer<? super K> action) {
+	for (int i = 0; i < this.words.length; i++) {
+	    long word = this.words[i];
+	    while (word != 0) {
+		action.accept(this.keys[(i << 6) + Long.numberOfTrailingZeros(word)]);
+		word &= word - 1;
+	    }
+	}
+    }
+
+    @Override
+    public Iterator<K> iterator() {
+	return new Iterator<K>() {
+
+	    private int next = nextOrdinal(0);
+	    private int last = -1;
+
+	    @Override
+	    public boolean hasNext() {
+		return this.next >= 0;
+	    }
+
+	    @Override
+	    public K next() {
+		if (this.next < 0) {
+		    throw new NoSuchElementException();
+		}
+		this.last = this.next;
+		this.next = nextOrdinal(this.next + 1);
+		return LiteEnumSet.this.keys[this.last];
+	    }
+
+	    @Override
+	    public void remove() {
+		if (this.last < 0) {
+		    throw new IllegalStateException();
+		}
+		LiteEnumSet.this.remove(LiteEnumSet.this.keys[this.last]);
+		this.last = -1;
+	    }
+
+	};
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+	if (this == obj) {
+	    return true;
+	}
+	if (!(obj instanceof LiteEnumSet)) {
+	    return false;
+	}
+	final LiteEnumSet<?> other = (LiteEnumSet<?>) obj;
+	return this.keyClass == other.keyClass && Arrays.equals(this.words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+	return 31 * this.keyClass.hashCode() + Arrays.hashCode(this.words);
+    }
+
+    @Override
+    public String toString() {
+	final StringBuilder sb = new StringBuilder("[");
+	for (int ordinal = nextOrdinal(0); ordinal >= 0; ordinal = nextOrdinal(ordinal + 1)) {
+	    if (sb.length() > 1) {
+		sb.append(", ");
+	    }
+	    sb.append(this.keys[ordinal]);
+	}
+	return sb.append(']').toString();
+    }
+
+}
@@ -0,0 +1,68 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.liteEnumMap;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Gate between Updates and consistent Snapshots of the concurrent LiteEnum-Maps.
+ * <p>
+ * An Update first registers on an In-Flight-Counter next to its Value and then checks the Gate - if it is closed the
+ * Update deregisters and waits until it opens again. A Snapshot closes the Gate, waits until every In-Flight-Counter
+ * drops to zero and reads the Values, no Update can run in between. As registering and checking are both sequentially
+ * consistent, an Update either sees the closed Gate or the Snapshot sees it in Flight.
+ *
+ * @author Simon Berndt
+ */
+final class SnapshotGate {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile boolean closed;
+
+    boolean isClosed() {
+	return this.closed;
+    }
+
+    /**
+     * Blocks while a Snapshot holds the Gate closed.
+     */
+    void awaitOpen() {
+	this.lock.lock();
+	this.lock.unlock();
+    }
+
+    /**
+     * Closes the Gate, Snapshots queue up behind each other.
+     */
+    void close() {
+	this.lock.lock();
+	this.closed = true;
+    }
+
+    void open() {
+	this.closed = false;
+	this.lock.unlock();
+    }
+
+}
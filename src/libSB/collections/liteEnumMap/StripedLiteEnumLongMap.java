@@ -0,0 +1,232 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.liteEnumMap;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import libSB.collections.keyed.KeyedLong;
+
+/**
+ * Thread-safe LiteEnum-Map for highly contended Counters in the Manner of {@link java.util.concurrent.atomic.LongAdder}.
+ * Updates go to one of several Stripes and reads sum up all Stripes. Each Stripe holds all Keys next to each other and
+ * is separated from its Neighbours by a Cache-Line, so Threads on different Stripes never share a Line.
+ * <p>
+ * Every Thread picks its Stripe by a Probe which is re-hashed whenever a CAS on its current Stripe fails, so colliding
+ * Threads move apart. Sums, {@link #snapshot()} and {@link #reset()} are weakly consistent like
+ * {@link java.util.concurrent.atomic.LongAdder#sum()} by Default. Maps created with consistent Snapshots count the
+ * Updates in Flight in the Slot behind the Keys of each Stripe instead, which lets Snapshots and Resets hold back
+ * Updates for the Duration of one Pass at the Cost of two more atomic Instructions per Update.
+ *
+ * @author Simon Berndt
+ */
+final public class StripedLiteEnumLongMap<K extends Enum<K>> implements KeyedLong.Readable<K> {
+
+    /**
+     * Longs per Cache-Line.
+     */
+    private static final int LINE_LENGTH = 8;
+
+    // Probe of each Thread, shared by all Maps as in LongAdder
+    private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(() -> {
+	final long h = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+	return new int[]{(int) (h >>> 32) | 1};
+    });
+
+    private final Class<K> keyClass;
+    private final K[] keys;
+    private final int length;
+    private final int stripeMask;
+    private final int stripeLength;
+    private final AtomicLongArray vals;
+    // null unless Snapshots are consistent
+    private final SnapshotGate gate;
+
+    public StripedLiteEnumLongMap(Class<K> keyClass) {
+	this(keyClass, Runtime.getRuntime().availableProcessors());
+    }
+
+    public StripedLiteEnumLongMap(Class<K> keyClass, int stripes) {
+	this(keyClass, stripes, false);
+    }
+
+    /**
+     * @param consistentSnapshots whether {@link #snapshot()} and {@link #reset()} hold back Updates to see all Counters
+     * at the same Time
+     */
+    public StripedLiteEnumLongMap(Class<K> keyClass, int stripes, boolean consistentSnapshots) {
+	if (stripes < 1) {
+	    throw new IllegalArgumentException("Stripes must be positive: " + stripes);
+	}
+	this.keyClass = keyClass;
+	this.keys = LiteEnumMaps.universe(keyClass);
+	this.length = this.keys.length;
+	final int stripeCount = Integer.highestOneBit((stripes << 1) - 1);
+	this.stripeMask = stripeCount - 1;
+	this.stripeLength = ((this.length + LINE_LENGTH - 1) / LINE_LENGTH + 1) * LINE_LENGTH;
+	this.vals = new AtomicLongArray(LINE_LENGTH + stripeCount * this.stripeLength);
+	this.gate = consistentSnapshots ? new SnapshotGate() : null;
+    }
+
+    public int getStripeCount() {
+	return this.stripeMask + 1;
+    }
+
+    private int stripeOffset(int probe) {
+	return LINE_LENGTH + (probe & this.stripeMask) * this.stripeLength;
+    }
+
+    /**
+     * Next Probe by Xorshift, never zero for a non-zero Probe.
+     */
+    private static int advanceProbe(int probe) {
+	probe ^= probe << 13;
+	probe ^= probe >>> 17;
+	probe ^= probe << 5;
+	return probe;
+    }
+
+    public void increment(K key) {
+	add(key, 1L);
+    }
+
+    public void decrement(K key) {
+	add(key, -1L);
+    }
+
+    public void add(K key, long delta) {
+	final int[] probe = PROBE.get();
+	if (this.gate != null) {
+	    addGated(stripeOffset(probe[0]), key.ordinal(), delta);
+	    return;
+	}
+	final int index = stripeOffset(probe[0]) + key.ordinal();
+	final long current = this.vals.get(index);
+	if (!this.vals.compareAndSet(index, current, current + delta)) {
+	    // contended - move this Thread to another Stripe for this and later Updates
+	    probe[0] = advanceProbe(probe[0]);
+	    this.vals.getAndAdd(stripeOffset(probe[0]) + key.ordinal(), delta);
+	}
+    }
+
+    private void addGated(int offset, int ordinal, long delta) {
+	final int inFlight = offset + this.length;
+	while (true) {
+	    this.vals.incrementAndGet(inFlight);
+	    if (!this.gate.isClosed()) {
+		break;
+	    }
+	    this.vals.decrementAndGet(inFlight);
+	    this.gate.awaitOpen();
+	}
+	this.vals.getAndAdd(offset + ordinal, delta);
+	this.vals.decrementAndGet(inFlight);
+    }
+
+    @Override
+    public Long getValue(K key) {
+	return get(key);
+    }
+
+    /**
+     * Sum over all Stripes. Concurrent Updates may or may not be included.
+     */
+    @Override
+    public long get(K key) {
+	return sum(key.ordinal());
+    }
+
+    private long sum(int ordinal) {
+	long sum = 0;
+	for (int offset = LINE_LENGTH; offset < this.vals.length(); offset += this.stripeLength) {
+	    sum += this.vals.get(offset + ordinal);
+	}
+	return sum;
+    }
+
+    /**
+     * Resets all Counters. With consistent Snapshots concurrent Updates end up either completely before or completely
+     * after the Reset, otherwise they may or may not survive it.
+     */
+    public void reset() {
+	if (this.gate == null) {
+	    clear();
+	    return;
+	}
+	closeGate();
+	try {
+	    clear();
+	} finally {
+	    this.gate.open();
+	}
+    }
+
+    private void clear() {
+	for (int offset = LINE_LENGTH; offset < this.vals.length(); offset += this.stripeLength) {
+	    for (int ordinal = 0; ordinal < this.length; ordinal++) {
+		this.vals.set(offset + ordinal, 0L);
+	    }
+	}
+    }
+
+    /**
+     * Closes the Gate and waits until no Update is in Flight on any Stripe.
+     */
+    private void closeGate() {
+	this.gate.close();
+	for (int offset = LINE_LENGTH; offset < this.vals.length(); offset += this.stripeLength) {
+	    while (this.vals.get(offset + this.length) != 0L) {
+		Thread.yield();
+	    }
+	}
+    }
+
+    public LiteEnumLongMap<K> snapshot() {
+	final LiteEnumLongMap<K> snapshot = new LiteEnumLongMap<>(this.keyClass, this.keys);
+	snapshotInto(snapshot);
+	return snapshot;
+    }
+
+    /**
+     * Sums up all Stripes. Only for Maps created with consistent Snapshots the Result is a State all Counters were in at
+     * the same Time, Updates arriving meanwhile wait until the Pass is done. Otherwise the Pass is weakly consistent.
+     */
+    public void snapshotInto(LiteEnumLongMap<K> target) {
+	if (this.gate == null) {
+	    collectInto(target);
+	    return;
+	}
+	closeGate();
+	try {
+	    collectInto(target);
+	} finally {
+	    this.gate.open();
+	}
+    }
+
+    private void collectInto(LiteEnumLongMap<K> target) {
+	for (int ordinal = 0; ordinal < this.length; ordinal++) {
+	    target.set(this.keys[ordinal], sum(ordinal));
+	}
+    }
+
+}
@@ -0,0 +1,311 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.primitiveMap;
+
+import java.util.Arrays;
+import libSB.collections.keyed.IntKeyedDouble;
+import libSB.functionalInterface.IntDoubleConsumer;
+
+/**
+ * Open-addressing Hash-Map from int to double without any Boxing.
+ * <p>
+ * Keys and Values live in two parallel Arrays probed linearly, removal shifts the following Entries of a Cluster back
+ * instead of leaving Tombstones. The Key 0 marks a free Slot and is therefore stored apart from the Arrays. Absent Keys
+ * map to 0.
+ *
+ * @author Simon Berndt
+ */
+final public class IntDoubleHashMap implements IntKeyedDouble.Writable {
+
+    private static final int FREE = 0;
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] keys;
+    private double[] values;
+    private int occupied;
+
+    private boolean hasFreeKey;
+    private double freeValue;
+
+    public IntDoubleHashMap() {
+	this(0);
+    }
+
+    public IntDoubleHashMap(int expectedSize) {
+	if (expectedSize < 0) {
+	    throw new IllegalArgumentException("Negative expected Size: " + expectedSize);
+	}
+	allocate(capacityFor(expectedSize));
+    }
+
+    private void allocate(int capacity) {
+	this.keys = new int[capacity];
+	this.values = new double[capacity];
+	this.occupied = 0;
+    }
+
+    private static int capacityFor(int size) {
+	// keep the Load-Factor below 3/4
+	final int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, size + size / 3) * 2 - 1);
+	return Math.max(MIN_CAPACITY, capacity);
+    }
+
+    private int slotOf(int key) {
+	final long hash = key * 0x9E3779B97F4A7C15L;
+	return (int) (hash >>> 32) & (this.keys.length - 1);
+    }
+
+    private int find(int key) {
+	final int mask = this.keys.length - 1;
+	for (int slot = slotOf(key);; slot = (slot + 1) & mask) {
+	    final int slotKey = this.keys[slot];
+	    if (slotKey == key) {
+		return slot;
+	    }
+	    if (slotKey == FREE) {
+		return -1;
+	    }
+	}
+    }
+
+    public int size() {
+	return this.hasFreeKey ? this.occupied + 1 : this.occupied;
+    }
+
+    public boolean isEmpty() {
+	return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(int key) {
+	return key == FREE ? this.hasFreeKey : find(key) >= 0;
+    }
+
+    @Override
+    public double get(int key) {
+	return getOrDefault(key, 0.0);
+    }
+
+    public double getOrDefault(int key, double defaultValue) {
+	if (key == FREE) {
+	    return this.hasFreeKey ? this.freeValue : defaultValue;
+	}
+	final int slot = find(key);
+	return slot < 0 ? defaultValue : this.values[slot];
+    }
+
+    @Override
+    public void set(int key, double value) {
+	put(key, value);
+    }
+
+    /**
+     * @return the previous Value or 0 if the Key was absent
+     */
+    public double put(int key, double value) {
+	if (key == FREE) {
+	    final double previous = this.freeValue;
+	    this.freeValue = value;
+	    this.hasFreeKey = true;
+	    return previous;
+	}
+	final int slot = insertionSlot(key);
+	final double previous = this.values[slot];
+	this.values[slot] = value;
+	return previous;
+    }
+
+    /**
+     * Adds the Delta to the Value of the Key, treating an absent Key as 0.
+     *
+     * @return the new Value
+     */
+    public double addTo(int key, double delta) {
+	if (key == FREE) {
+	    this.hasFreeKey = true;
+	    return this.freeValue += delta;
+	}
+	final int slot = insertionSlot(key);
+	return this.values[slot] += delta;
+    }
+
+    /**
+     * Slot of the Key, which is claimed with the Value 0 if the Key is absent.
+     */
+    private int insertionSlot(int key) {
+	final int mask = this.keys.length - 1;
+	for (int slot = slotOf(key);; slot = (slot + 1) & mask) {
+	    final int slotKey = this.keys[slot];
+	    if (slotKey == key) {
+		return slot;
+	    }
+	    if (slotKey == FREE) {
+		if ((this.occupied + 1) * 4 > this.keys.length * 3) {
+		    rehash(this.keys.length << 1);
+		    return insertionSlot(key);
+		}
+		this.keys[slot] = key;
+		this.occupied++;
+		return slot;
+	    }
+	}
+    }
+
+    /**
+     * @return whether the Key was present
+     */
+    public boolean remove(int key) {
+	if (key == FREE) {
+	    final boolean had = this.hasFreeKey;
+	    this.hasFreeKey = false;
+	    this.freeValue = 0.0;
+	    return had;
+	}
+	int slot = find(key);
+	if (slot < 0) {
+	    return false;
+	}
+	// shift following Entries of the Cluster back, so no Tombstones are needed
+	final int mask = this.keys.length - 1;
+	for (int next = (slot + 1) & mask;; next = (next + 1) & mask) {
+	    final int nextKey = this.keys[next];
+	    if (nextKey == FREE) {
+		break;
+	    }
+	    final int home = slotOf(nextKey);
+	    // move if the Home-Slot of the Entry is not within (slot, next]
+	    if (((next - home) & mask) >= ((next - slot) & mask)) {
+		this.keys[slot] = nextKey;
+		this.values[slot] = this.values[next];
+		slot = next;
+	    }
+	}
+	this.keys[slot] = FREE;
+	this.values[slot] = 0.0;
+	this.occupied--;
+	return true;
+    }
+
+    /**
+     * Removes all Entries but keeps the Capacity.
+     */
+    public void clear() {
+	Arrays.fill(this.keys, FREE);
+	Arrays.fill(this.values, 0.0);
+	this.occupied = 0;
+	this.hasFreeKey = false;
+	this.freeValue = 0.0;
+    }
+
+    private void rehash(int capacity) {
+	final int[] oldKeys = this.keys;
+	final double[] oldValues = this.values;
+	allocate(capacity);
+	final int mask = capacity - 1;
+	for (int i = 0; i < oldKeys.length; i++) {
+	    final int key = oldKeys[i];
+	    if (key != FREE) {
+		int slot = slotOf(key);
+		while (this.keys[slot] != FREE) {
+		    slot = (slot + 1) & mask;
+		}
+		this.keys[slot] = key;
+		this.values[slot] = oldValues[i];
+		this.occupied++;
+	    }
+	}
+    }
+
+    /**
+     * Visits all Entries in no particular Order.
+     */
+    public void forEach(IntDoubleConsumer action) {
+	if (this.hasFreeKey) {
+	    action.accept(FREE, this.freeValue);
+	}
+	for (int i = 0; i < this.keys.length; i++) {
+	    if (this.keys[i] != FREE) {
+		action.accept(this.keys[i], this.values[i]);
+	    }
+	}
+    }
+
+    public int[] keys() {
+	final int[] result = new int[size()];
+	int i = 0;
+	if (this.hasFreeKey) {
+	    result[i++] = FREE;
+	}
+	for (int key : this.keys) {
+	    if (key != FREE) {
+		result[i++] = key;
+	    }
+	}
+	return result;
+    }
+
+    /**
+     * Bytes held by the Arrays of this Map, ignoring Object-Headers.
+     */
+    public long getFootprint() {
+	return (long) this.keys.length * (Integer.BYTES + Double.BYTES);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+	if (this == obj) {
+	    return true;
+	}
+	if (!(obj instanceof IntDoubleHashMap)) {
+	    return false;
+	}
+	final IntDoubleHashMap other = (IntDoubleHashMap) obj;
+	if (other.size() != size() || other.hasFreeKey != this.hasFreeKey
+		|| Double.doubleToLongBits(other.freeValue) != Double.doubleToLongBits(this.freeValue)) {
+	    return false;
+	}
+	for (int i = 0; i < this.keys.length; i++) {
+	    final int key = this.keys[i];
+	    if (key != FREE) {
+		final int slot = other.find(key);
+		if (slot < 0 || Double.doubleToLongBits(other.values[slot]) != Double.doubleToLongBits(this.values[i])) {
+		    return false;
+		}
+	    }
+	}
+	return true;
+    }
+
+    @Override
+    public int hashCode() {
+	int hash = this.hasFreeKey ? Double.hashCode(this.freeValue) : 0;
+	for (int i = 0; i < this.keys.length; i++) {
+	    if (this.keys[i] != FREE) {
+		hash += Integer.hashCode(this.keys[i]) ^ Double.hashCode(this.values[i]);
+	    }
+	}
+	return hash;
+    }
+
+}
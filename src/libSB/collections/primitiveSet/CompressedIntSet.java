@@ -0,0 +1,728 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.primitiveSet;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable Set of ints compressed in the Manner of Roaring-Bitmaps.
+ * <p>
+ * The Elements are split into Chunks of 2^16 Values sharing their upper 16 Bits. Each Chunk stores the lower 16 Bits of
+ * its Elements in the smallest of three Containers: a sorted Array for sparse Chunks, a Bitmap for dense Chunks or a
+ * List of Runs for clustered ones. Containers are immutable and shared between Sets derived from each other.
+ * <p>
+ * The serialized Layout is big-endian and consists of a Header (Magic, Chunk-Count), one Descriptor per Chunk (Key as
+ * unsigned short, Container-Type as byte, one reserved byte, Count as int, Payload-Offset as int) and the Payloads,
+ * each aligned to 8 Bytes. Array-Payloads hold Count chars, Bitmap-Payloads 1024 longs and Run-Payloads Count Pairs of
+ * Start and Length-1 as chars. {@link #map(ByteBuffer)} reads the Set without copying, so the Layout can be used
+ * straight from a memory-mapped File.
+ *
+ * @author Simon Berndt
+ */
+final public class CompressedIntSet {
+
+    private static final int MAGIC = 0x43495331;
+    private static final int HEADER_SIZE = 8;
+    private static final int DESCRIPTOR_SIZE = 12;
+
+    private static final int TYPE_ARRAY = 0;
+    private static final int TYPE_BITMAP = 1;
+    private static final int TYPE_RUN = 2;
+
+    private static final int BITMAP_WORDS = 1 << 10;
+    private static final int MAX_ARRAY_CARDINALITY = 1 << 12;
+
+    private static final CompressedIntSet EMPTY = new CompressedIntSet(new int[0], new Container[0], 0);
+
+    // Keys are the upper 16 Bits with flipped Sign, so their unsigned Order is the signed Order of the Elements
+    private final int[] keys;
+    private final Container[] containers;
+    private final long cardinality;
+
+    private CompressedIntSet(int[] keys, Container[] containers, int count) {
+	this.keys = count == keys.length ? keys : Arrays.copyOf(keys, count);
+	this.containers = count == containers.length ? containers : Arrays.copyOf(containers, count);
+	long sum = 0;
+	for (final Container container : this.containers) {
+	    sum += container.cardinality();
+	}
+	this.cardinality = sum;
+    }
+
+    public static CompressedIntSet empty() {
+	return EMPTY;
+    }
+
+    public static CompressedIntSet of(ImmutableIntSet set) {
+	return ofSortedDistinct(set.stream().toArray());
+    }
+
+    public static CompressedIntSet of(IntStream elements) {
+	final int[] array = elements.toArray();
+	return ofSortedDistinct(ImmutableIntSet.sortDistinct(array, array.length, false));
+    }
+
+    private static CompressedIntSet ofSortedDistinct(int[] elements) {
+	// at most one Chunk per Element and never more than 2^16 Chunks
+	final int maxChunks = Math.min(elements.length, 1 << 16);
+	final int[] keys = new int[maxChunks];
+	final Container[] containers = new Container[maxChunks];
+	final long[] scratch = new long[BITMAP_WORDS];
+	int count = 0;
+	int from = 0;
+	while (from < elements.length) {
+	    final int key = keyOf(elements[from]);
+	    int to = from;
+	    while (to < elements.length && keyOf(elements[to]) == key) {
+		final int low = elements[to] & 0xFFFF;
+		scratch[low >>> 6] |= 1L << low;
+		to++;
+	    }
+	    keys[count] = key;
+	    containers[count++] = Container.optimize(scratch);
+	    Arrays.fill(scratch, 0L);
+	    from = to;
+	}
+	return count == 0 ? EMPTY : new CompressedIntSet(keys, containers, count);
+    }
+
+    private static int keyOf(int value) {
+	return (value >>> 16) ^ 0x8000;
+    }
+
+    private static int highOf(int key) {
+	return (key ^ 0x8000) << 16;
+    }
+
+    public boolean isEmpty() {
+	return this.cardinality == 0;
+    }
+
+    public long cardinality() {
+	return this.cardinality;
+    }
+
+    /**
+     * @throws ArithmeticException if the Set holds more than Integer.MAX_VALUE Elements
+     */
+    public int size() {
+	return Math.toIntExact(this.cardinality);
+    }
+
+    public boolean contains(int i) {
+	final int index = Arrays.binarySearch(this.keys, keyOf(i));
+	return index >= 0 && this.containers[index].contains(i & 0xFFFF);
+    }
+
+    public boolean notContains(int i) {
+	return !contains(i);
+    }
+
+    public void forEach(IntConsumer action) {
+	for (int i = 0; i < this.keys.length; i++) {
+	    this.containers[i].forEach(highOf(this.keys[i]), action);
+	}
+    }
+
+    public IntStream stream() {
+	return IntStream.range(0, this.keys.length).flatMap((int i) -> Arrays.stream(this.containers[i].toArray(highOf(this.keys[i]))));
+    }
+
+    public int[] toArray() {
+	final int[] elements = new int[size()];
+	int n = 0;
+	for (int i = 0; i < this.keys.length; i++) {
+	    final int[] chunk = this.containers[i].toArray(highOf(this.keys[i]));
+	    System.arraycopy(chunk, 0, elements, n, chunk.length);
+	    n += chunk.length;
+	}
+	return elements;
+    }
+
+    public ImmutableIntSet toImmutableIntSet() {
+	return ImmutableIntSet.ofSortedDistinct(toArray());
+    }
+
+    /**
+     * Approximate Number of Bytes held by the Containers and the Key-Index.
+     */
+    public long getSizeInBytes() {
+	long bytes = (long) this.keys.length * (Integer.BYTES + 16);
+	for (final Container container : this.containers) {
+	    bytes += container.payloadBytes();
+	}
+	return bytes;
+    }
+
+    private interface WordOperator {
+
+	long apply(long a, long b);
+
+    }
+
+    public CompressedIntSet union(CompressedIntSet set) {
+	return combine(set, (long a, long b) -> a | b, true, true);
+    }
+
+    public CompressedIntSet intersection(CompressedIntSet set) {
+	return combine(set, (long a, long b) -> a & b, false, false);
+    }
+
+    public CompressedIntSet difference(CompressedIntSet set) {
+	return combine(set, (long a, long b) -> a & ~b, true, false);
+    }
+
+    public CompressedIntSet symmetricDifference(CompressedIntSet set) {
+	return combine(set, (long a, long b) -> a ^ b, true, true);
+    }
+
+    public CompressedIntSet complement(CompressedIntSet domain) {
+	return domain.difference(this);
+    }
+
+    /**
+     * Merges the Chunks of both Sets by their Keys. Chunks present in only one Set are kept as they are if the Operator
+     * keeps them, Chunks present in both are combined word by word.
+     */
+    private CompressedIntSet combine(CompressedIntSet set, WordOperator operator, boolean keepOnlyThis, boolean keepOnlyOther) {
+	final int[] resultKeys = new int[this.keys.length + set.keys.length];
+	final Container[] resultContainers = new Container[resultKeys.length];
+	final long[] a = new long[BITMAP_WORDS];
+	final long[] b = new long[BITMAP_WORDS];
+	int i = 0, j = 0, n = 0;
+	while (i < this.keys.length || j < set.keys.length) {
+	    final int thisKey = i < this.keys.length ? this.keys[i] : Integer.MAX_VALUE;
+	    final int otherKey = j < set.keys.length ? set.keys[j] : Integer.MAX_VALUE;
+	    if (thisKey < otherKey) {
+		if (keepOnlyThis) {
+		    resultKeys[n] = thisKey;
+		    resultContainers[n++] = this.containers[i];
+		}
+		i++;
+	    } else if (thisKey > otherKey) {
+		if (keepOnlyOther) {
+		    resultKeys[n] = otherKey;
+		    resultContainers[n++] = set.containers[j];
+		}
+		j++;
+	    } else {
+		Arrays.fill(a, 0L);
+		Arrays.fill(b, 0L);
+		this.containers[i++].orInto(a);
+		set.containers[j++].orInto(b);
+		for (int w = 0; w < BITMAP_WORDS; w++) {
+		    a[w] = operator.apply(a[w], b[w]);
+		}
+		final Container container = Container.optimize(a);
+		if (container != null) {
+		    resultKeys[n] = thisKey;
+		    resultContainers[n++] = container;
+		}
+	    }
+	}
+	return n == 0 ? EMPTY : new CompressedIntSet(resultKeys, resultContainers, n);
+    }
+
+    public int getSerializedSize() {
+	int size = HEADER_SIZE + this.keys.length * DESCRIPTOR_SIZE;
+	for (final Container container : this.containers) {
+	    size = align(size) + container.payloadBytes();
+	}
+	return size;
+    }
+
+    private static int align(int offset) {
+	return (offset + 7) & ~7;
+    }
+
+    /**
+     * Writes the Set in its portable Layout at the current Position of the Buffer, which is advanced by
+     * {@link #getSerializedSize()} Bytes.
+     */
+    public void writeTo(ByteBuffer buffer) {
+	final ByteBuffer out = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+	out.putInt(MAGIC);
+	out.putInt(this.keys.length);
+	int offset = HEADER_SIZE + this.keys.length * DESCRIPTOR_SIZE;
+	for (int i = 0; i < this.keys.length; i++) {
+	    offset = align(offset);
+	    out.putChar((char) this.keys[i]);
+	    out.put((byte) this.containers[i].type());
+	    out.put((byte) 0);
+	    out.putInt(this.containers[i].count());
+	    out.putInt(offset);
+	    offset += this.containers[i].payloadBytes();
+	}
+	for (int i = 0; i < this.keys.length; i++) {
+	    out.position(align(out.position()));
+	    this.containers[i].writePayload(out);
+	}
+	buffer.position(buffer.position() + out.position());
+    }
+
+    /**
+     * Reads a Set written by {@link #writeTo(ByteBuffer)} starting at the current Position of the Buffer. The Containers
+     * are Views on the Buffer, which therefore must neither be modified nor released while the Set is in use.
+     */
+    public static CompressedIntSet map(ByteBuffer buffer) {
+	final ByteBuffer in = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+	if (in.remaining() < HEADER_SIZE || in.getInt(0) != MAGIC) {
+	    throw new IllegalArgumentException("Buffer does not hold a CompressedIntSet");
+	}
+	final int count = in.getInt(4);
+	if (count < 0 || (long) HEADER_SIZE + (long) count * DESCRIPTOR_SIZE > in.remaining()) {
+	    throw new BufferUnderflowException();
+	}
+	final int[] keys = new int[count];
+	final Container[] containers = new Container[count];
+	for (int i = 0; i < count; i++) {
+	    final int descriptor = HEADER_SIZE + i * DESCRIPTOR_SIZE;
+	    keys[i] = in.getChar(descriptor);
+	    if (i > 0 && keys[i] <= keys[i - 1]) {
+		throw new IllegalArgumentException("Keys not in ascending Order");
+	    }
+	    final int type = in.get(descriptor + 2);
+	    final int elementCount = in.getInt(descriptor + 4);
+	    final int offset = in.getInt(descriptor + 8);
+	    containers[i] = Container.map(in, type, elementCount, offset);
+	}
+	return count == 0 ? EMPTY : new CompressedIntSet(keys, containers, count);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+	if (this == obj) {
+	    return true;
+	}
+	if (!(obj instanceof CompressedIntSet)) {
+	    return false;
+	}
+	final CompressedIntSet other = (CompressedIntSet) obj;
+	if (other.cardinality != this.cardinality || !Arrays.equals(other.keys, this.keys)) {
+	    return false;
+	}
+	final long[] a = new long[BITMAP_WORDS];
+	final long[] b = new long[BITMAP_WORDS];
+	for (int i = 0; i < this.keys.length; i++) {
+	    Arrays.fill(a, 0L);
+	    Arrays.fill(b, 0L);
+	    this.containers[i].orInto(a);
+	    other.containers[i].orInto(b);
+	    if (!Arrays.equals(a, b)) {
+		return false;
+	    }
+	}
+	return true;
+    }
+
+    @Override
+    public int hashCode() {
+	final int[] hash = {0};
+	forEach((int value) -> hash[0] = 31 * hash[0] + value);
+	return hash[0];
+    }
+
+    private static abstract class Container {
+
+	abstract int type();
+
+	/**
+	 * Count stored in the Descriptor.
+	 */
+	abstract int count();
+
+	abstract int cardinality();
+
+	abstract boolean contains(int low);
+
+	abstract void forEach(int high, IntConsumer action);
+
+	abstract int[] toArray(int high);
+
+	abstract void orInto(long[] bitmap);
+
+	abstract int payloadBytes();
+
+	abstract void writePayload(ByteBuffer out);
+
+	/**
+	 * Smallest Container for the Bits of the Bitmap or null if it is empty.
+	 */
+	static Container optimize(long[] bitmap) {
+	    int cardinality = 0;
+	    int runs = 0;
+	    long previousTopBit = 0;
+	    for (final long word : bitmap) {
+		cardinality += Long.bitCount(word);
+		// a Run starts at every set Bit whose lower Neighbour is clear
+		runs += Long.bitCount(word & ~((word << 1) | previousTopBit));
+		previousTopBit = word >>> 63;
+	    }
+	    if (cardinality == 0) {
+		return null;
+	    }
+	    final int arrayBytes = cardinality * Character.BYTES;
+	    final int runBytes = runs * 2 * Character.BYTES;
+	    final int bitmapBytes = BITMAP_WORDS * Long.BYTES;
+	    if (runBytes < Math.min(arrayBytes, bitmapBytes)) {
+		return RunContainer.of(bitmap, runs);
+	    }
+	    if (cardinality <= MAX_ARRAY_CARDINALITY) {
+		return ArrayContainer.of(bitmap, cardinality);
+	    }
+	    return new BitmapContainer(LongBuffer.wrap(bitmap.clone()), cardinality);
+	}
+
+	static Container map(ByteBuffer in, int type, int count, int offset) {
+	    switch (type) {
+		case TYPE_ARRAY:
+		    return new ArrayContainer(view(in, offset, count * Character.BYTES).asCharBuffer());
+		case TYPE_BITMAP:
+		    return new BitmapContainer(view(in, offset, BITMAP_WORDS * Long.BYTES).asLongBuffer(), count);
+		case TYPE_RUN:
+		    return new RunContainer(view(in, offset, count * 2 * Character.BYTES).asCharBuffer());
+		default:
+		    throw new IllegalArgumentException("Unknown Container-Type " + type);
+	    }
+	}
+
+	private static ByteBuffer view(ByteBuffer in, int offset, int length) {
+	    if (offset < 0 || length < 0 || (long) offset + length > in.limit()) {
+		throw new BufferUnderflowException();
+	    }
+	    final ByteBuffer view = in.duplicate();
+	    view.limit(offset + length);
+	    view.position(offset);
+	    return view.slice().order(ByteOrder.BIG_ENDIAN);
+	}
+
+    }
+
+    private static final class ArrayContainer extends Container {
+
+	private final CharBuffer lows;
+
+	ArrayContainer(CharBuffer lows) {
+	    this.lows = lows;
+	}
+
+	static ArrayContainer of(long[] bitmap, int cardinality) {
+	    final char[] lows = new char[cardinality];
+	    int n = 0;
+	    for (int i = 0; i < bitmap.length; i++) {
+		long word = bitmap[i];
+		while (word != 0) {
+		    lows[n++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+		    word &= word - 1;
+		}
+	    }
+	    return new ArrayContainer(CharBuffer.wrap(lows));
+	}
+
+	@Override
+	int type() {
+	    return TYPE_ARRAY;
+	}
+
+	@Override
+	int count() {
+	    return this.lows.limit();
+	}
+
+	@Override
+	int cardinality() {
+	    return this.lows.limit();
+	}
+
+	@Override
+	boolean contains(int low) {
+	    int lo = 0;
+	    int hi = this.lows.limit() - 1;
+	    while (lo <= hi) {
+		final int mid = (lo + hi) >>> 1;
+		final char value = this.lows.get(mid);
+		if (value < low) {
+		    lo = mid + 1;
+		} else if (value > low) {
+		    hi = mid - 1;
+		} else {
+		    return true;
+		}
+	    }
+	    return false;
+	}
+
+	@Override
+	void forEach(int high, IntConsumer action) {
+	    for (int i = 0; i < this.lows.limit(); i++) {
+		action.accept(high | this.lows.get(i));
+	    }
+	}
+
+	@Override
+	int[] toArray(int high) {
+	    final int[] elements = new int[this.lows.limit()];
+	    for (int i = 0; i < elements.length; i++) {
+		elements[i] = high | this.lows.get(i);
+	    }
+	    return elements;
+	}
+
+	@Override
+	void orInto(long[] bitmap) {
+	    for (int i = 0; i < this.lows.limit(); i++) {
+		final int low = this.lows.get(i);
+		bitmap[low >>> 6] |= 1L << low;
+	    }
+	}
+
+	@Override
+	int payloadBytes() {
+	    return this.lows.limit() * Character.BYTES;
+	}
+
+	@Override
+	void writePayload(ByteBuffer out) {
+	    for (int i = 0; i < this.lows.limit(); i++) {
+		out.putChar(this.lows.get(i));
+	    }
+	}
+
+    }
+
+    private static final class BitmapContainer extends Container {
+
+	private final LongBuffer words;
+	private final int cardinality;
+
+	BitmapContainer(LongBuffer words, int cardinality) {
+	    this.words = words;
+	    this.cardinality = cardinality;
+	}
+
+	@Override
+	int type() {
+	    return TYPE_BITMAP;
+	}
+
+	@Override
+	int count() {
+	    return this.cardinality;
+	}
+
+	@Override
+	int cardinality() {
+	    return this.cardinality;
+	}
+
+	@Override
+	boolean contains(int low) {
+	    return (this.words.get(low >>> 6) & (1L << low)) != 0;
+	}
+
+	@Override
+	void forEach(int high, IntConsumer action) {
+	    for (int i = 0; i < BITMAP_WORDS; i++) {
+		long word = this.words.get(i);
+		while (word != 0) {
+		    action.accept(high | ((i << 6) + Long.numberOfTrailingZeros(word)));
+		    word &= word - 1;
+		}
+	    }
+	}
+
+	@Override
+	int[] toArray(int high) {
+	    final int[] elements = new int[this.cardinality];
+	    int n = 0;
+	    for (int i = 0; i < BITMAP_WORDS; i++) {
+		long word = this.words.get(i);
+		while (word != 0) {
+		    elements[n++] = high | ((i << 6) + Long.numberOfTrailingZeros(word));
+		    word &= word - 1;
+		}
+	    }
+	    return elements;
+	}
+
+	@Override
+	void orInto(long[] bitmap) {
+	    for (int i = 0; i < BITMAP_WORDS; i++) {
+		bitmap[i] |= this.words.get(i);
+	    }
+	}
+
+	@Override
+	int payloadBytes() {
+	    return BITMAP_WORDS * Long.BYTES;
+	}
+
+	@Override
+	void writePayload(ByteBuffer out) {
+	    for (int i = 0; i < BITMAP_WORDS; i++) {
+		out.putLong(this.words.get(i));
+	    }
+	}
+
+    }
+
+    private static final class RunContainer extends Container {
+
+	// Pairs of Start and Length-1
+	private final CharBuffer runs;
+	private final int cardinality;
+
+	RunContainer(CharBuffer runs) {
+	    this.runs = runs;
+	    int sum = 0;
+	    for (int i = 1; i < runs.limit(); i += 2) {
+		sum += runs.get(i) + 1;
+	    }
+	    this.cardinality = sum;
+	}
+
+	static RunContainer of(long[] bitmap, int runCount) {
+	    final char[] runs = new char[runCount * 2];
+	    int n = 0;
+	    int word = 0;
+	    long bits = bitmap[0];
+	    while (true) {
+		// Start of the next Run is the next set Bit
+		while (bits == 0) {
+		    if (++word == BITMAP_WORDS) {
+			return new RunContainer(CharBuffer.wrap(runs));
+		    }
+		    bits = bitmap[word];
+		}
+		final int start = (word << 6) + Long.numberOfTrailingZeros(bits);
+		// End of the Run is the next clear Bit
+		bits = ~bits & (-1L << start);
+		while (bits == 0 && ++word < BITMAP_WORDS) {
+		    bits = ~bitmap[word];
+		}
+		final int end = word == BITMAP_WORDS ? 1 << 16 : (word << 6) + Long.numberOfTrailingZeros(bits);
+		runs[n++] = (char) start;
+		runs[n++] = (char) (end - 1 - start);
+		if (word == BITMAP_WORDS) {
+		    return new RunContainer(CharBuffer.wrap(runs));
+		}
+		bits = ~bits & (-1L << end);
+	    }
+	}
+
+	@Override
+	int type() {
+	    return TYPE_RUN;
+	}
+
+	@Override
+	int count() {
+	    return this.runs.limit() >>> 1;
+	}
+
+	@Override
+	int cardinality() {
+	    return this.cardinality;
+	}
+
+	@Override
+	boolean contains(int low) {
+	    // last Run starting at or before the Value
+	    int lo = 0;
+	    int hi = (this.runs.limit() >>> 1) - 1;
+	    while (lo <= hi) {
+		final int mid = (lo + hi) >>> 1;
+		if (this.runs.get(mid << 1) <= low) {
+		    lo = mid + 1;
+		} else {
+		    hi = mid - 1;
+		}
+	    }
+	    return hi >= 0 && low - this.runs.get(hi << 1) <= this.runs.get((hi << 1) + 1);
+	}
+
+	@Override
+	void forEach(int high, IntConsumer action) {
+	    for (int i = 0; i < this.runs.limit(); i += 2) {
+		final int start = this.runs.get(i);
+		final int end = start + this.runs.get(i + 1);
+		for (int low = start; low <= end; low++) {
+		    action.accept(high | low);
+		}
+	    }
+	}
+
+	@Override
+	int[] toArray(int high) {
+	    final int[] elements = new int[this.cardinality];
+	    int n = 0;
+	    for (int i = 0; i < this.runs.limit(); i += 2) {
+		final int start = this.runs.get(i);
+		final int end = start + this.runs.get(i + 1);
+		for (int low = start; low <= end; low++) {
+		    elements[n++] = high | low;
+		}
+	    }
+	    return elements;
+	}
+
+	@Override
+	void orInto(long[] bitmap) {
+	    for (int i = 0; i < this.runs.limit(); i += 2) {
+		final int start = this.runs.get(i);
+		final int end = start + this.runs.get(i + 1);
+		final int startWord = start >>> 6;
+		final int endWord = end >>> 6;
+		if (startWord == endWord) {
+		    bitmap[startWord] |= (-1L << start) & (-1L >>> (63 - (end & 63)));
+		} else {
+		    bitmap[startWord] |= -1L << start;
+		    Arrays.fill(bitmap, startWord + 1, endWord, -1L);
+		    bitmap[endWord] |= -1L >>> (63 - (end & 63));
+		}
+	    }
+	}
+
+	@Override
+	int payloadBytes() {
+	    return this.runs.limit() * Character.BYTES;
+	}
+
+	@Override
+	void writePayload(ByteBuffer out) {
+	    for (int i = 0; i < this.runs.limit(); i++) {
+		out.putChar(this.runs.get(i));
+	    }
+	}
+
+    }
+
+}
@@ -23,6 +23,9 @@
  */
 package libSB.collections.primitiveSet;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.stream.IntStream;
 
@@ -33,12 +36,19 @@ import java.util.stream.IntStream;
 final public class ImmutableIntSet {
 
     private static final ImmutableIntSet EMPTY = new ImmutableIntSet();
+
+    // Number of Elements from which Sorting runs in parallel
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+    // Size-Ratio above which Intersections gallop through the larger Set instead of merging
+    private static final int GALLOP_RATIO = 32;
     
     // Sorted Array of elements contained by this set - Immutable
     private final int[] elements;
 
     public ImmutableIntSet(IntStream elements) {
-        this.elements = elements.distinct().sorted().toArray();
+        final int[] array = elements.toArray();
+        this.elements = sortDistinct(array, array.length, false);
     }
 
     private ImmutableIntSet() {
@@ -49,6 +59,39 @@ final public class ImmutableIntSet {
         this.elements = new int[]{i};
     }
 
+    private ImmutableIntSet(int[] sortedElements) {
+        this.elements = sortedElements;
+    }
+
+    /**
+     * Sorts the first Length Elements of the Array in place unless they are known to be ascending and removes Duplicates.
+     *
+     * @return the sorted distinct Elements, trimmed to their Number
+     */
+    static int[] sortDistinct(int[] array, int length, boolean ascending) {
+        if (!ascending) {
+            if (length >= PARALLEL_SORT_THRESHOLD) {
+                Arrays.parallelSort(array, 0, length);
+            } else {
+                Arrays.sort(array, 0, length);
+            }
+        }
+        int distinct = length == 0 ? 0 : 1;
+        for (int i = 1; i < length; i++) {
+            if (array[i] != array[distinct - 1]) {
+                array[distinct++] = array[i];
+            }
+        }
+        return distinct == array.length ? array : Arrays.copyOf(array, distinct);
+    }
+
+    /**
+     * Takes over the Array without copying - it must be sorted, free of Duplicates and not be modified afterwards.
+     */
+    static ImmutableIntSet ofSortedDistinct(int[] sortedElements) {
+        return sortedElements.length == 0 ? EMPTY : new ImmutableIntSet(sortedElements);
+    }
+
     public static ImmutableIntSet empty() {
         return EMPTY;
     }
@@ -73,46 +116,407 @@ final public class ImmutableIntSet {
         return Arrays.binarySearch(this.elements, i) < 0;
     }
 
+    /**
+     * Index of the first Element which is not less than the Value, which is the Number of Elements less than it.
+     */
+    public int rank(int value) {
+        final int index = Arrays.binarySearch(this.elements, value);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Element at the given Position in ascending Order.
+     */
+    public int select(int index) {
+        if (index < 0 || index >= this.elements.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.elements.length);
+        }
+        return this.elements[index];
+    }
+
+    /**
+     * Elements in [fromInclusive, toExclusive).
+     */
+    public ImmutableIntSet subSet(int fromInclusive, int toExclusive) {
+        final int from = rank(fromInclusive);
+        final int to = Math.max(from, rank(toExclusive));
+        if (from == 0 && to == this.elements.length) {
+            return this;
+        }
+        return ofSortedDistinct(Arrays.copyOfRange(this.elements, from, to));
+    }
+
     public ImmutableIntSet union(ImmutableIntSet set) {
-        return new ImmutableIntSet(IntStream.concat(this.stream(), set.stream()));
+        if (set.isEmpty()) {
+            return this;
+        }
+        if (this.isEmpty()) {
+            return set;
+        }
+        final int[] a = this.elements;
+        final int[] b = set.elements;
+        final int[] result = new int[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            final int x = a[i];
+            final int y = b[j];
+            if (x <= y) {
+                result[n++] = x;
+                i++;
+                if (x == y) {
+                    j++;
+                }
+            } else {
+                result[n++] = y;
+                j++;
+            }
+        }
+        System.arraycopy(a, i, result, n, a.length - i);
+        n += a.length - i;
+        System.arraycopy(b, j, result, n, b.length - j);
+        n += b.length - j;
+        return ofSortedDistinct(trim(result, n));
     }
 
     public ImmutableIntSet intersection(ImmutableIntSet set) {
-        return new ImmutableIntSet(this.stream().filter(set::contains));
+        final int[] small = this.size() <= set.size() ? this.elements : set.elements;
+        final int[] large = this.size() <= set.size() ? set.elements : this.elements;
+        final int[] result = new int[small.length];
+        int n = 0;
+        if ((long) small.length * GALLOP_RATIO < large.length) {
+            // gallop through the large Set, so the Costs are O(small * log(large / small))
+            int j = 0;
+            for (final int x : small) {
+                j = gallop(large, j, x);
+                if (j == large.length) {
+                    break;
+                }
+                if (large[j] == x) {
+                    result[n++] = x;
+                }
+            }
+        } else {
+            int i = 0, j = 0;
+            while (i < small.length && j < large.length) {
+                final int x = small[i];
+                final int y = large[j];
+                if (x < y) {
+                    i++;
+                } else if (x > y) {
+                    j++;
+                } else {
+                    result[n++] = x;
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return ofSortedDistinct(trim(result, n));
+    }
+
+    /**
+     * Elements of this Set which are not contained in the given one.
+     */
+    public ImmutableIntSet difference(ImmutableIntSet set) {
+        if (this.isEmpty() || set.isEmpty()) {
+            return this;
+        }
+        final int[] a = this.elements;
+        final int[] b = set.elements;
+        final int[] result = new int[a.length];
+        int n = 0;
+        if ((long) a.length * GALLOP_RATIO < b.length) {
+            int j = 0;
+            for (final int x : a) {
+                j = gallop(b, j, x);
+                if (j == b.length || b[j] != x) {
+                    result[n++] = x;
+                }
+            }
+        } else {
+            int i = 0, j = 0;
+            while (i < a.length && j < b.length) {
+                final int x = a[i];
+                final int y = b[j];
+                if (x < y) {
+                    result[n++] = x;
+                    i++;
+                } else if (x > y) {
+                    j++;
+                } else {
+                    i++;
+                    j++;
+                }
+            }
+            System.arraycopy(a, i, result, n, a.length - i);
+            n += a.length - i;
+        }
+        return n == a.length ? this : ofSortedDistinct(trim(result, n));
+    }
+
+    /**
+     * Elements contained in exactly one of both Sets.
+     */
+    public ImmutableIntSet symmetricDifference(ImmutableIntSet set) {
+        if (set.isEmpty()) {
+            return this;
+        }
+        if (this.isEmpty()) {
+            return set;
+        }
+        final int[] a = this.elements;
+        final int[] b = set.elements;
+        final int[] result = new int[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            final int x = a[i];
+            final int y = b[j];
+            if (x < y) {
+                result[n++] = x;
+                i++;
+            } else if (x > y) {
+                result[n++] = y;
+                j++;
+            } else {
+                i++;
+                j++;
+            }
+        }
+        System.arraycopy(a, i, result, n, a.length - i);
+        n += a.length - i;
+        System.arraycopy(b, j, result, n, b.length - j);
+        n += b.length - j;
+        return ofSortedDistinct(trim(result, n));
     }
 
     public ImmutableIntSet complement(ImmutableIntSet domain) {
-        return new ImmutableIntSet(domain.stream().filter(this::notContains));
+        return domain.difference(this);
+    }
+
+    /**
+     * Union of all Sets in a single Pass. Sets spanning a narrow Range are merged through a Bitmap, others through a
+     * Heap of their smallest remaining Elements.
+     */
+    public static ImmutableIntSet unionAll(ImmutableIntSet... sets) {
+        long total = 0;
+        long lo = Integer.MAX_VALUE;
+        long hi = Integer.MIN_VALUE;
+        int nonEmpty = 0;
+        ImmutableIntSet last = EMPTY;
+        for (final ImmutableIntSet set : sets) {
+            if (!set.isEmpty()) {
+                total += set.size();
+                lo = Math.min(lo, set.elements[0]);
+                hi = Math.max(hi, set.elements[set.size() - 1]);
+                nonEmpty++;
+                last = set;
+            }
+        }
+        if (nonEmpty <= 1) {
+            return last;
+        }
+        final long words = ((hi - lo) >>> 6) + 1;
+        if (words <= total) {
+            return unionByBitmap(sets, lo, (int) words);
+        }
+        return unionByHeap(sets, nonEmpty, total);
+    }
+
+    private static ImmutableIntSet unionByBitmap(ImmutableIntSet[] sets, long lo, int wordCount) {
+        final long[] words = new long[wordCount];
+        for (final ImmutableIntSet set : sets) {
+            for (final int element : set.elements) {
+                final long offset = element - lo;
+                words[(int) (offset >>> 6)] |= 1L << offset;
+            }
+        }
+        int count = 0;
+        for (final long word : words) {
+            count += Long.bitCount(word);
+        }
+        final int[] result = new int[count];
+        int n = 0;
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                result[n++] = (int) (lo + ((long) i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return ofSortedDistinct(result);
+    }
+
+    private static ImmutableIntSet unionByHeap(ImmutableIntSet[] sets, int nonEmpty, long total) {
+        // Min-Heap of Set-Indices ordered by the Element under their Cursor
+        final int[][] arrays = new int[nonEmpty][];
+        final int[] cursors = new int[nonEmpty];
+        final int[] heap = new int[nonEmpty];
+        int k = 0;
+        for (final ImmutableIntSet set : sets) {
+            if (!set.isEmpty()) {
+                arrays[k] = set.elements;
+                heap[k] = k;
+                k++;
+            }
+        }
+        for (int i = (k >>> 1) - 1; i >= 0; i--) {
+            siftDown(heap, k, i, arrays, cursors);
+        }
+        final int[] result = new int[(int) Math.min(total, Integer.MAX_VALUE - 8)];
+        int n = 0;
+        while (k > 0) {
+            final int top = heap[0];
+            final int element = arrays[top][cursors[top]];
+            if (n == 0 || result[n - 1] != element) {
+                result[n++] = element;
+            }
+            if (++cursors[top] == arrays[top].length) {
+                heap[0] = heap[--k];
+            }
+            siftDown(heap, k, 0, arrays, cursors);
+        }
+        return ofSortedDistinct(trim(result, n));
+    }
+
+    private static void siftDown(int[] heap, int size, int index, int[][] arrays, int[] cursors) {
+        final int moving = heap[index];
+        final int key = size > 0 ? arrays[moving][cursors[moving]] : 0;
+        while (true) {
+            int child = (index << 1) + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && arrays[heap[child + 1]][cursors[heap[child + 1]]] < arrays[heap[child]][cursors[heap[child]]]) {
+                child++;
+            }
+            if (arrays[heap[child]][cursors[heap[child]]] >= key) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = moving;
+    }
+
+    /**
+     * Intersection of all Sets, starting with the smallest so the intermediate Results only shrink.
+     */
+    public static ImmutableIntSet intersectionAll(ImmutableIntSet... sets) {
+        if (sets.length == 0) {
+            return EMPTY;
+        }
+        final ImmutableIntSet[] bySize = sets.clone();
+        Arrays.sort(bySize, (ImmutableIntSet s1, ImmutableIntSet s2) -> Integer.compare(s1.size(), s2.size()));
+        ImmutableIntSet result = bySize[0];
+        for (int i = 1; i < bySize.length && !result.isEmpty(); i++) {
+            result = result.intersection(bySize[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Index of the first Element not less than the Value, searching from the given Index with exponentially growing
+     * Steps.
+     */
+    private static int gallop(int[] array, int from, int value) {
+        if (from >= array.length || array[from] >= value) {
+            return from;
+        }
+        int step = 1;
+        int lo = from;
+        int hi = from + 1;
+        while (hi < array.length && array[hi] < value) {
+            lo = hi;
+            step <<= 1;
+            hi = from + step;
+        }
+        final int index = Arrays.binarySearch(array, lo + 1, Math.min(hi + 1, array.length), value);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static int[] trim(int[] array, int length) {
+        return length == array.length ? array : Arrays.copyOf(array, length);
     }
 
     public IntStream stream() {
         return Arrays.stream(this.elements);
     }
 
+    /**
+     * Writes the Set with raw Elements, which can be opened later through {@link MappedIntSet#map(java.nio.file.Path)}.
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        writeTo(channel, false);
+    }
+
+    /**
+     * Writes the Set, either with raw Elements or delta-varint compressed. Compressed Sets can only be read back through
+     * {@link #readFrom(ReadableByteChannel)}.
+     */
+    public void writeTo(WritableByteChannel channel, boolean compressed) throws IOException {
+        IntSetFormat.write(this.elements, compressed, channel);
+    }
+
+    /**
+     * Reads a Set written by {@link #writeTo(WritableByteChannel, boolean)} and verifies its Checksum.
+     */
+    public static ImmutableIntSet readFrom(ReadableByteChannel channel) throws IOException {
+        return ofSortedDistinct(IntSetFormat.read(channel));
+    }
+
+    /**
+     * Collects Elements in a growable Array, which is sorted once and freed from Duplicates when the Set is built. Input
+     * arriving in ascending Order is detected and not sorted at all.
+     */
     public static class Builder {
 
-        private final IntStream.Builder internalBuilder;
+        private static final int DEFAULT_CAPACITY = 16;
+
+        private int[] buffer;
+        private int size;
+        private boolean ascending = true;
 
         public Builder() {
-            this.internalBuilder = IntStream.builder();
+            this(DEFAULT_CAPACITY);
+        }
+
+        public Builder(int expectedSize) {
+            this.buffer = new int[Math.max(expectedSize, 1)];
+        }
+
+        private void ensureCapacity(int minCapacity) {
+            if (minCapacity > this.buffer.length) {
+                final int grown = this.buffer.length + (this.buffer.length >> 1);
+                this.buffer = Arrays.copyOf(this.buffer, Math.max(grown < 0 ? Integer.MAX_VALUE - 8 : grown, minCapacity));
+            }
         }
 
         public void add(IntStream streamOfElements) {
-            streamOfElements.forEach(this.internalBuilder);
+            streamOfElements.forEachOrdered(this::add);
         }
 
         public void add(int element) {
-            this.internalBuilder.accept(element);
+            if (this.size == this.buffer.length) {
+                ensureCapacity(this.size + 1);
+            }
+            if (this.size > 0 && element < this.buffer[this.size - 1]) {
+                this.ascending = false;
+            }
+            this.buffer[this.size++] = element;
         }
 
         public void add(int... elements) {
+            ensureCapacity(this.size + elements.length);
             for (final int element : elements) {
-                this.internalBuilder.accept(element);
+                add(element);
             }
         }
 
         public ImmutableIntSet build() {
-            return new ImmutableIntSet(this.internalBuilder.build());
+            if (this.size == 0) {
+                return EMPTY;
+            }
+            return ofSortedDistinct(sortDistinct(Arrays.copyOf(this.buffer, this.size), this.size, this.ascending));
         }
 
     }
@@ -0,0 +1,258 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.primitiveSet;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Binary Format of sorted int-Sets.
+ * <p>
+ * All Values are big-endian. The Header holds the Magic, the Version, the Encoding, two reserved Bytes, the Number of
+ * Elements, the Length of the Payload in Bytes and the CRC32 of the Payload. The Payload follows directly and holds the
+ * Elements either raw as ints, which keeps them 4-Byte aligned for mapping, or as Varints - the first Element zig-zag
+ * encoded, every further one as unsigned Distance to its Predecessor.
+ *
+ * @author Simon Berndt
+ */
+final class IntSetFormat {
+
+    static final int MAGIC = 0x49495331;
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 20;
+
+    static final byte ENCODING_RAW = 0;
+    static final byte ENCODING_DELTA_VARINT = 1;
+
+    private static final int BLOCK_SIZE = 1 << 16;
+    private static final int MAX_VARINT_BYTES = 5;
+    // Elements allocated up front when reading - the Array grows with the decoded Payload, so a corrupt Count can not
+    // force a huge Allocation
+    private static final int MAX_INITIAL_ELEMENTS = 1 << 16;
+
+    private IntSetFormat() {
+    }
+
+    private interface BlockSink {
+
+	void accept(ByteBuffer block) throws IOException;
+
+    }
+
+    static void write(int[] elements, boolean compressed, WritableByteChannel channel) throws IOException {
+	final byte encoding = compressed ? ENCODING_DELTA_VARINT : ENCODING_RAW;
+	// first Pass determines Length and Checksum of the Payload, the second one writes it
+	final CRC32 crc = new CRC32();
+	final long[] length = {0};
+	encode(elements, encoding, (ByteBuffer block) -> {
+	    length[0] += block.remaining();
+	    crc.update(block);
+	});
+	if (length[0] > Integer.MAX_VALUE) {
+	    throw new IOException("Payload too large: " + length[0]);
+	}
+	final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+	header.putInt(MAGIC);
+	header.put(VERSION);
+	header.put(encoding);
+	header.putShort((short) 0);
+	header.putInt(elements.length);
+	header.putInt((int) length[0]);
+	header.putInt((int) crc.getValue());
+	header.flip();
+	writeFully(channel, header);
+	encode(elements, encoding, (ByteBuffer block) -> writeFully(channel, block));
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer block) throws IOException {
+	while (block.hasRemaining()) {
+	    channel.write(block);
+	}
+    }
+
+    private static void encode(int[] elements, byte encoding, BlockSink sink) throws IOException {
+	final ByteBuffer block = ByteBuffer.allocate(BLOCK_SIZE).order(ByteOrder.BIG_ENDIAN);
+	int previous = 0;
+	for (int i = 0; i < elements.length; i++) {
+	    if (block.remaining() < MAX_VARINT_BYTES) {
+		block.flip();
+		sink.accept(block);
+		block.clear();
+	    }
+	    if (encoding == ENCODING_RAW) {
+		block.putInt(elements[i]);
+	    } else {
+		putVarint(block, i == 0 ? (elements[i] << 1) ^ (elements[i] >> 31) : elements[i] - previous);
+	    }
+	    previous = elements[i];
+	}
+	block.flip();
+	if (block.hasRemaining()) {
+	    sink.accept(block);
+	}
+    }
+
+    private static void putVarint(ByteBuffer block, int value) {
+	while ((value & ~0x7F) != 0) {
+	    block.put((byte) ((value & 0x7F) | 0x80));
+	    value >>>= 7;
+	}
+	block.put((byte) value);
+    }
+
+    private static int getVarint(ByteBuffer block) throws IOException {
+	int value = 0;
+	for (int shift = 0; shift < 35; shift += 7) {
+	    if (!block.hasRemaining()) {
+		throw new EOFException("Truncated Varint");
+	    }
+	    final byte b = block.get();
+	    value |= (b & 0x7F) << shift;
+	    if (b >= 0) {
+		return value;
+	    }
+	}
+	throw new IOException("Malformed Varint");
+    }
+
+    /**
+     * Validates the Header at the Start of the Buffer.
+     *
+     * @return the Encoding
+     */
+    static byte checkHeader(ByteBuffer header) throws IOException {
+	if (header.remaining() < HEADER_SIZE) {
+	    throw new IOException("Truncated Header");
+	}
+	if (header.getInt(0) != MAGIC) {
+	    throw new IOException("Not an Int-Set-File");
+	}
+	final byte version = header.get(4);
+	if (version != VERSION) {
+	    throw new IOException("Unsupported Version: " + version);
+	}
+	final byte encoding = header.get(5);
+	if (encoding != ENCODING_RAW && encoding != ENCODING_DELTA_VARINT) {
+	    throw new IOException("Unsupported Encoding: " + encoding);
+	}
+	final int count = header.getInt(8);
+	final int length = header.getInt(12);
+	if (count < 0 || length < 0 || (encoding == ENCODING_RAW && (long) count * Integer.BYTES != length)) {
+	    throw new IOException("Corrupt Header");
+	}
+	// every Varint takes at least one Byte
+	if (encoding == ENCODING_DELTA_VARINT && count > length) {
+	    throw new IOException("Corrupt Header");
+	}
+	return encoding;
+    }
+
+    static int count(ByteBuffer header) {
+	return header.getInt(8);
+    }
+
+    static int payloadLength(ByteBuffer header) {
+	return header.getInt(12);
+    }
+
+    static int checksum(ByteBuffer header) {
+	return header.getInt(16);
+    }
+
+    /**
+     * Reads a Set from the Channel, verifying its Checksum and that its Elements are strictly ascending.
+     */
+    static int[] read(ReadableByteChannel channel) throws IOException {
+	final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+	readFully(channel, header);
+	header.flip();
+	final byte encoding = checkHeader(header);
+	final int count = count(header);
+	int[] elements = new int[Math.min(count, MAX_INITIAL_ELEMENTS)];
+	long unread = payloadLength(header);
+	final CRC32 crc = new CRC32();
+	final ByteBuffer block = ByteBuffer.allocate(BLOCK_SIZE).order(ByteOrder.BIG_ENDIAN);
+	final int unit = encoding == ENCODING_RAW ? Integer.BYTES : MAX_VARINT_BYTES;
+	int n = 0;
+	while (unread > 0 || block.position() > 0) {
+	    // fill the Block with the next Part of the Payload
+	    final int start = block.position();
+	    if (unread > 0) {
+		final int limit = (int) Math.min(block.capacity(), start + unread);
+		block.limit(limit);
+		final int read = channel.read(block);
+		if (read < 0) {
+		    throw new EOFException("Truncated Payload");
+		}
+		unread -= read;
+		final ByteBuffer fresh = block.duplicate();
+		fresh.flip().position(start);
+		crc.update(fresh);
+	    }
+	    block.flip();
+	    // decode complete Elements, a Varint at the End of the Block may still be incomplete
+	    while (block.remaining() >= unit || (unread == 0 && block.hasRemaining())) {
+		if (n == elements.length) {
+		    if (n == count) {
+			throw new IOException("Payload holds more Elements than declared");
+		    }
+		    elements = Arrays.copyOf(elements, (int) Math.min(count, 2L * n));
+		}
+		final int value = encoding == ENCODING_RAW ? block.getInt() : getVarint(block);
+		if (encoding == ENCODING_RAW) {
+		    elements[n] = value;
+		} else {
+		    elements[n] = n == 0 ? (value >>> 1) ^ -(value & 1) : elements[n - 1] + value;
+		}
+		if (n > 0 && elements[n] <= elements[n - 1]) {
+		    throw new IOException("Elements not strictly ascending");
+		}
+		n++;
+	    }
+	    block.compact();
+	}
+	if (n != count) {
+	    throw new IOException("Payload holds fewer Elements than declared");
+	}
+	if ((int) crc.getValue() != checksum(header)) {
+	    throw new IOException("Checksum mismatch");
+	}
+	return elements;
+    }
+
+    private static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+	while (buffer.hasRemaining()) {
+	    if (channel.read(buffer) < 0) {
+		throw new EOFException("Truncated Header");
+	    }
+	}
+    }
+
+}
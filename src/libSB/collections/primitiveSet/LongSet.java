@@ -0,0 +1,611 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.primitiveSet;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+/**
+ * Mutable Set of longs without any Boxing.
+ * <p>
+ * Elements are kept either in a dense Bitmap covering the Range between the smallest and the largest Element or in an
+ * open-addressing Hash-Table, whichever needs less Memory. The Set switches between both Modes on its own while growing,
+ * {@link #trimToSize()} re-evaluates the Choice after Removals.
+ *
+ * @author Simon Berndt
+ */
+final public class LongSet {
+
+    private static final long FREE = 0L;
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_WORDS = Integer.MAX_VALUE - 8;
+
+    // Bitmap-Mode - Bit i of the Bitmap stands for the Value base + i
+    private long[] words;
+    private long base;
+
+    // Hash-Mode - the Value 0 marks a free Slot and is tracked apart
+    private long[] table;
+    private boolean hasFree;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    private int size;
+
+    public LongSet() {
+	this(0);
+    }
+
+    public LongSet(int expectedSize) {
+	if (expectedSize < 0) {
+	    throw new IllegalArgumentException("Negative expected Size: " + expectedSize);
+	}
+	this.table = new long[capacityFor(expectedSize)];
+    }
+
+    public static LongSet of(long... elements) {
+	final LongSet set = new LongSet(elements.length);
+	set.addAll(elements);
+	return set;
+    }
+
+    public LongSet copy() {
+	final LongSet copy = new LongSet();
+	copy.words = this.words == null ? null : this.words.clone();
+	copy.base = this.base;
+	copy.table = this.table == null ? null : this.table.clone();
+	copy.hasFree = this.hasFree;
+	copy.min = this.min;
+	copy.max = this.max;
+	copy.size = this.size;
+	return copy;
+    }
+
+    private static int capacityFor(int size) {
+	// keep the Load-Factor below 3/4
+	final int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, size + size / 3) * 2 - 1);
+	return Math.max(MIN_CAPACITY, capacity);
+    }
+
+    private static long alignDown(long value) {
+	return value & ~63L;
+    }
+
+    /**
+     * Number of Bitmap-Words needed to cover the Range [lo, hi].
+     */
+    private static long wordsFor(long lo, long hi) {
+	return ((alignDown(hi) - alignDown(lo)) >>> 6) + 1;
+    }
+
+    private static long hashBytes(long size) {
+	return Math.max(MIN_CAPACITY, Long.highestOneBit((size + size / 3) * 2 - 1)) * Long.BYTES;
+    }
+
+    private static boolean bitmapPays(long words, long size) {
+	return words <= MAX_WORDS && words * Long.BYTES <= hashBytes(size);
+    }
+
+    public boolean isDense() {
+	return this.words != null;
+    }
+
+    public int size() {
+	return this.size;
+    }
+
+    public boolean isEmpty() {
+	return this.size == 0;
+    }
+
+    public boolean contains(long value) {
+	if (this.words != null) {
+	    final long offset = value - this.base;
+	    return Long.compareUnsigned(offset, (long) this.words.length << 6) < 0
+		    && (this.words[(int) (offset >>> 6)] & (1L << offset)) != 0;
+	}
+	if (value == FREE) {
+	    return this.hasFree;
+	}
+	final int mask = this.table.length - 1;
+	for (int slot = slotOf(value, mask);; slot = (slot + 1) & mask) {
+	    final long slotValue = this.table[slot];
+	    if (slotValue == value) {
+		return true;
+	    }
+	    if (slotValue == FREE) {
+		return false;
+	    }
+	}
+    }
+
+    private static int slotOf(long value, int mask) {
+	final long hash = (value ^ (value >>> 32)) * 0x9E3779B97F4A7C15L;
+	return (int) (hash >>> 32) & mask;
+    }
+
+    /**
+     * @return whether the Value was not yet contained
+     */
+    public boolean add(long value) {
+	if (this.words != null) {
+	    long offset = value - this.base;
+	    if (Long.compareUnsigned(offset, (long) this.words.length << 6) >= 0) {
+		if (!growBitmap(value)) {
+		    toHash();
+		    return addHashed(value);
+		}
+		offset = value - this.base;
+	    }
+	    final int word = (int) (offset >>> 6);
+	    final long bit = 1L << offset;
+	    if ((this.words[word] & bit) != 0) {
+		return false;
+	    }
+	    this.words[word] |= bit;
+	    this.size++;
+	    return true;
+	}
+	return addHashed(value);
+    }
+
+    private boolean addHashed(long value) {
+	if (value == FREE) {
+	    if (this.hasFree) {
+		return false;
+	    }
+	    this.hasFree = true;
+	    this.size++;
+	    track(value);
+	    return true;
+	}
+	final int mask = this.table.length - 1;
+	for (int slot = slotOf(value, mask);; slot = (slot + 1) & mask) {
+	    final long slotValue = this.table[slot];
+	    if (slotValue == value) {
+		return false;
+	    }
+	    if (slotValue == FREE) {
+		if ((this.size + 1) * 4 > this.table.length * 3) {
+		    // about to grow - check whether a Bitmap would be cheaper
+		    if (bitmapPays(wordsFor(Math.min(this.min, value), Math.max(this.max, value)), this.size + 1)) {
+			toBitmap(Math.min(this.min, value), Math.max(this.max, value));
+			return add(value);
+		    }
+		    rehash(this.table.length << 1);
+		    return addHashed(value);
+		}
+		this.table[slot] = value;
+		this.size++;
+		track(value);
+		return true;
+	    }
+	}
+    }
+
+    private void track(long value) {
+	this.min = Math.min(this.min, value);
+	this.max = Math.max(this.max, value);
+    }
+
+    /**
+     * Extends the Bitmap so it covers the Value unless a Hash-Table would need less Memory afterwards.
+     */
+    private boolean growBitmap(long value) {
+	if (Long.compareUnsigned(value - this.base, (long) this.words.length << 6) < 0) {
+	    return true;
+	}
+	final long lo = Math.min(this.base, alignDown(value));
+	final long hi = Math.max(this.base + ((long) this.words.length << 6) - 1, value);
+	final long needed = wordsFor(lo, hi);
+	// tolerate twice the Memory of a Hash-Table before giving up the Bitmap
+	if (needed > MAX_WORDS || needed * Long.BYTES > 2 * hashBytes(this.size + 1)) {
+	    return false;
+	}
+	final int length = lo < this.base ? (int) needed : (int) Math.min(MAX_WORDS, Math.max(needed, this.words.length + (this.words.length >> 1)));
+	final long[] grown = new long[length];
+	System.arraycopy(this.words, 0, grown, (int) ((this.base - lo) >>> 6), this.words.length);
+	this.words = grown;
+	this.base = lo;
+	return true;
+    }
+
+    private void toBitmap(long lo, long hi) {
+	final long[] bitmap = new long[(int) wordsFor(lo, hi)];
+	final long bitmapBase = alignDown(lo);
+	if (this.hasFree) {
+	    final long offset = FREE - bitmapBase;
+	    bitmap[(int) (offset >>> 6)] |= 1L << offset;
+	}
+	for (long value : this.table) {
+	    if (value != FREE) {
+		final long offset = value - bitmapBase;
+		bitmap[(int) (offset >>> 6)] |= 1L << offset;
+	    }
+	}
+	this.words = bitmap;
+	this.base = bitmapBase;
+	this.table = null;
+	this.hasFree = false;
+    }
+
+    private void toHash() {
+	final long[] elements = elements();
+	this.words = null;
+	resetHash(elements.length);
+	for (long element : elements) {
+	    addHashed(element);
+	}
+    }
+
+    private void resetHash(int expectedSize) {
+	this.table = new long[capacityFor(expectedSize)];
+	this.hasFree = false;
+	this.min = Long.MAX_VALUE;
+	this.max = Long.MIN_VALUE;
+	this.size = 0;
+    }
+
+    private void rehash(int capacity) {
+	final long[] old = this.table;
+	this.table = new long[capacity];
+	final int mask = capacity - 1;
+	for (long value : old) {
+	    if (value != FREE) {
+		int slot = slotOf(value, mask);
+		while (this.table[slot] != FREE) {
+		    slot = (slot + 1) & mask;
+		}
+		this.table[slot] = value;
+	    }
+	}
+    }
+
+    /**
+     * @return whether the Value was contained
+     */
+    public boolean remove(long value) {
+	if (this.words != null) {
+	    final long offset = value - this.base;
+	    if (Long.compareUnsigned(offset, (long) this.words.length << 6) >= 0) {
+		return false;
+	    }
+	    final int word = (int) (offset >>> 6);
+	    final long bit = 1L << offset;
+	    if ((this.words[word] & bit) == 0) {
+		return false;
+	    }
+	    this.words[word] &= ~bit;
+	    this.size--;
+	    return true;
+	}
+	if (value == FREE) {
+	    if (!this.hasFree) {
+		return false;
+	    }
+	    this.hasFree = false;
+	    this.size--;
+	    return true;
+	}
+	final int mask = this.table.length - 1;
+	int slot = slotOf(value, mask);
+	while (this.table[slot] != value) {
+	    if (this.table[slot] == FREE) {
+		return false;
+	    }
+	    slot = (slot + 1) & mask;
+	}
+	// shift following Elements of the Cluster back, so no Tombstones are needed
+	for (int next = (slot + 1) & mask;; next = (next + 1) & mask) {
+	    final long nextValue = this.table[next];
+	    if (nextValue == FREE) {
+		break;
+	    }
+	    final int home = slotOf(nextValue, mask);
+	    // move if the Home-Slot of the Element is not within (slot, next]
+	    if (((next - home) & mask) >= ((next - slot) & mask)) {
+		this.table[slot] = nextValue;
+		slot = next;
+	    }
+	}
+	this.table[slot] = FREE;
+	this.size--;
+	return true;
+    }
+
+    /**
+     * Removes all Elements but keeps the current Mode and Capacity.
+     */
+    public void clear() {
+	if (this.words != null) {
+	    Arrays.fill(this.words, 0L);
+	} else {
+	    Arrays.fill(this.table, FREE);
+	    this.hasFree = false;
+	    this.min = Long.MAX_VALUE;
+	    this.max = Long.MIN_VALUE;
+	}
+	this.size = 0;
+    }
+
+    public void addAll(long... values) {
+	for (long value : values) {
+	    add(value);
+	}
+    }
+
+    public void removeAll(long... values) {
+	for (long value : values) {
+	    remove(value);
+	}
+    }
+
+    /**
+     * Adds all Values of [fromInclusive, toExclusive), filling whole Words if the Range fits a Bitmap.
+     */
+    public void addRange(long fromInclusive, long toExclusive) {
+	if (fromInclusive >= toExclusive) {
+	    return;
+	}
+	final long last = toExclusive - 1;
+	if (this.words == null) {
+	    final long lo = Math.min(this.min, fromInclusive);
+	    final long hi = Math.max(this.max, last);
+	    if (!bitmapPays(wordsFor(lo, hi), this.size + Math.min(Integer.MAX_VALUE, Long.compareUnsigned(toExclusive - fromInclusive, Integer.MAX_VALUE) < 0 ? toExclusive - fromInclusive : Integer.MAX_VALUE))) {
+		for (long value = fromInclusive; value < toExclusive; value++) {
+		    add(value);
+		}
+		return;
+	    }
+	    toBitmap(lo, hi);
+	}
+	if (!growBitmap(fromInclusive) || !growBitmap(last)) {
+	    toHash();
+	    for (long value = fromInclusive; value < toExclusive; value++) {
+		add(value);
+	    }
+	    return;
+	}
+	final long from = fromInclusive - this.base;
+	final long to = last - this.base;
+	final int fromWord = (int) (from >>> 6);
+	final int toWord = (int) (to >>> 6);
+	if (fromWord == toWord) {
+	    this.words[fromWord] |= (-1L << from) & (-1L >>> (63 - (to & 63)));
+	} else {
+	    this.words[fromWord] |= -1L << from;
+	    Arrays.fill(this.words, fromWord + 1, toWord, -1L);
+	    this.words[toWord] |= -1L >>> (63 - (to & 63));
+	}
+	recount();
+    }
+
+    public void addAll(LongSet other) {
+	if (this.words != null && other.words != null && other.base >= this.base
+		&& other.base + ((long) other.words.length << 6) <= this.base + ((long) this.words.length << 6)) {
+	    final int shift = (int) ((other.base - this.base) >>> 6);
+	    for (int i = 0; i < other.words.length; i++) {
+		this.words[shift + i] |= other.words[i];
+	    }
+	    recount();
+	} else {
+	    other.forEach(this::add);
+	}
+    }
+
+    public void retainAll(LongSet other) {
+	if (this.words != null && other.words != null) {
+	    for (int i = 0; i < this.words.length; i++) {
+		final long otherOffset = ((long) i << 6) + this.base - other.base;
+		this.words[i] &= Long.compareUnsigned(otherOffset, (long) other.words.length << 6) < 0 ? other.words[(int) (otherOffset >>> 6)] : 0L;
+	    }
+	    recount();
+	} else {
+	    removeIf((long value) -> !other.contains(value));
+	}
+    }
+
+    public void removeAll(LongSet other) {
+	if (this == other) {
+	    clear();
+	} else if (this.words != null && other.words != null) {
+	    for (int i = 0; i < this.words.length; i++) {
+		final long otherOffset = ((long) i << 6) + this.base - other.base;
+		if (Long.compareUnsigned(otherOffset, (long) other.words.length << 6) < 0) {
+		    this.words[i] &= ~other.words[(int) (otherOffset >>> 6)];
+		}
+	    }
+	    recount();
+	} else if (other.size < this.size) {
+	    other.forEach(this::remove);
+	} else {
+	    removeIf(other::contains);
+	}
+    }
+
+    /**
+     * Removes all Elements matching the Filter.
+     */
+    public void removeIf(LongPredicate filter) {
+	if (this.words != null) {
+	    for (int i = 0; i < this.words.length; i++) {
+		long word = this.words[i];
+		while (word != 0) {
+		    final long bit = word & -word;
+		    if (filter.test(this.base + ((long) i << 6) + Long.numberOfTrailingZeros(word))) {
+			this.words[i] &= ~bit;
+			this.size--;
+		    }
+		    word ^= bit;
+		}
+	    }
+	} else {
+	    // Backward-Shifting would move Elements under the running Iteration - rebuild instead
+	    final long[] elements = elements();
+	    resetHash(elements.length);
+	    for (long element : elements) {
+		if (!filter.test(element)) {
+		    addHashed(element);
+		}
+	    }
+	}
+    }
+
+    private void recount() {
+	int count = 0;
+	for (long word : this.words) {
+	    count += Long.bitCount(word);
+	}
+	this.size = count;
+    }
+
+    /**
+     * Visits all Elements, in ascending Order if the Set is dense.
+     */
+    public void forEach(LongConsumer action) {
+	if (this.words != null) {
+	    for (int i = 0; i < this.words.length; i++) {
+		long word = this.words[i];
+		while (word != 0) {
+		    action.accept(this.base + ((long) i << 6) + Long.numberOfTrailingZeros(word));
+		    word &= word - 1;
+		}
+	    }
+	} else {
+	    if (this.hasFree) {
+		action.accept(FREE);
+	    }
+	    for (long value : this.table) {
+		if (value != FREE) {
+		    action.accept(value);
+		}
+	    }
+	}
+    }
+
+    public long[] toSortedArray() {
+	final long[] elements = elements();
+	if (this.words == null) {
+	    Arrays.sort(elements);
+	}
+	return elements;
+    }
+
+    /**
+     * Elements in the Order of {@link #forEach(LongConsumer)}.
+     */
+    private long[] elements() {
+	final long[] elements = new long[this.size];
+	int n = 0;
+	if (this.words != null) {
+	    for (int i = 0; i < this.words.length; i++) {
+		long word = this.words[i];
+		while (word != 0) {
+		    elements[n++] = this.base + ((long) i << 6) + Long.numberOfTrailingZeros(word);
+		    word &= word - 1;
+		}
+	    }
+	} else {
+	    if (this.hasFree) {
+		elements[n++] = FREE;
+	    }
+	    for (long value : this.table) {
+		if (value != FREE) {
+		    elements[n++] = value;
+		}
+	    }
+	}
+	return elements;
+    }
+
+    /**
+     * Re-evaluates the Mode for the current Elements and releases unused Memory.
+     */
+    public void trimToSize() {
+	if (this.size == 0) {
+	    this.words = null;
+	    resetHash(0);
+	    return;
+	}
+	final long[] elements = elements();
+	long lo = Long.MAX_VALUE;
+	long hi = Long.MIN_VALUE;
+	for (long element : elements) {
+	    lo = Math.min(lo, element);
+	    hi = Math.max(hi, element);
+	}
+	if (bitmapPays(wordsFor(lo, hi), this.size)) {
+	    final long[] bitmap = new long[(int) wordsFor(lo, hi)];
+	    final long bitmapBase = alignDown(lo);
+	    for (long element : elements) {
+		final long offset = element - bitmapBase;
+		bitmap[(int) (offset >>> 6)] |= 1L << offset;
+	    }
+	    this.words = bitmap;
+	    this.base = bitmapBase;
+	    this.table = null;
+	    this.hasFree = false;
+	} else {
+	    this.words = null;
+	    resetHash(elements.length);
+	    for (long element : elements) {
+		addHashed(element);
+	    }
+	}
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+	if (this == obj) {
+	    return true;
+	}
+	if (!(obj instanceof LongSet)) {
+	    return false;
+	}
+	final LongSet other = (LongSet) obj;
+	if (other.size != this.size) {
+	    return false;
+	}
+	for (long element : elements()) {
+	    if (!other.contains(element)) {
+		return false;
+	    }
+	}
+	return true;
+    }
+
+    @Override
+    public int hashCode() {
+	final int[] hash = {0};
+	forEach((long value) -> hash[0] += Long.hashCode(value));
+	return hash[0];
+    }
+
+    @Override
+    public String toString() {
+	return Arrays.toString(toSortedArray());
+    }
+
+}
@@ -0,0 +1,159 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.primitiveSet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * Read-only View on a Set written by {@link ImmutableIntSet#writeTo(java.nio.channels.WritableByteChannel)}. The
+ * Elements are read straight from the Buffer, which usually is a memory-mapped File, so opening costs no Copy.
+ *
+ * @author Simon Berndt
+ */
+final public class MappedIntSet {
+
+    private final ByteBuffer buffer;
+    private final IntBuffer elements;
+
+    private MappedIntSet(ByteBuffer buffer) throws IOException {
+	this.buffer = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+	if (IntSetFormat.checkHeader(this.buffer) != IntSetFormat.ENCODING_RAW) {
+	    throw new IOException("Only raw Sets can be mapped");
+	}
+	final int length = IntSetFormat.payloadLength(this.buffer);
+	if ((long) IntSetFormat.HEADER_SIZE + length > this.buffer.remaining()) {
+	    throw new IOException("Truncated Content");
+	}
+	final ByteBuffer payload = this.buffer.duplicate();
+	payload.limit(IntSetFormat.HEADER_SIZE + length);
+	payload.position(IntSetFormat.HEADER_SIZE);
+	this.elements = payload.slice().order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+    }
+
+    /**
+     * View on the Set starting at the current Position of the Buffer. The Buffer must not be modified while the View is
+     * in use.
+     */
+    public static MappedIntSet map(ByteBuffer buffer) throws IOException {
+	return new MappedIntSet(buffer);
+    }
+
+    /**
+     * Maps the File read-only. The Mapping stays valid after this Method returns and is released with the View.
+     */
+    public static MappedIntSet map(Path file) throws IOException {
+	try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+	    return new MappedIntSet(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+	}
+    }
+
+    /**
+     * Verifies the Checksum of the Payload, which touches every Page of the File.
+     */
+    public boolean isIntact() {
+	final ByteBuffer payload = this.buffer.duplicate();
+	payload.limit(IntSetFormat.HEADER_SIZE + IntSetFormat.payloadLength(this.buffer));
+	payload.position(IntSetFormat.HEADER_SIZE);
+	final CRC32 crc = new CRC32();
+	crc.update(payload);
+	return (int) crc.getValue() == IntSetFormat.checksum(this.buffer);
+    }
+
+    public boolean isEmpty() {
+	return this.elements.limit() == 0;
+    }
+
+    public int size() {
+	return this.elements.limit();
+    }
+
+    public boolean contains(int i) {
+	return search(i) >= 0;
+    }
+
+    public boolean notContains(int i) {
+	return search(i) < 0;
+    }
+
+    private int search(int value) {
+	int lo = 0;
+	int hi = this.elements.limit() - 1;
+	while (lo <= hi) {
+	    final int mid = (lo + hi) >>> 1;
+	    final int element = this.elements.get(mid);
+	    if (element < value) {
+		lo = mid + 1;
+	    } else if (element > value) {
+		hi = mid - 1;
+	    } else {
+		return mid;
+	    }
+	}
+	return -(lo + 1);
+    }
+
+    /**
+     * Number of Elements less than the Value.
+     */
+    public int rank(int value) {
+	final int index = search(value);
+	return index >= 0 ? index : -index - 1;
+    }
+
+    public int select(int index) {
+	if (index < 0 || index >= this.elements.limit()) {
+	    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.elements.limit());
+	}
+	return this.elements.get(index);
+    }
+
+    public void forEach(IntConsumer action) {
+	for (int i = 0; i < this.elements.limit(); i++) {
+	    action.accept(this.elements.get(i));
+	}
+    }
+
+    public IntStream stream() {
+	return IntStream.range(0, this.elements.limit()).map(this.elements::get);
+    }
+
+    /**
+     * Copies the Elements onto the Heap.
+     */
+    public ImmutableIntSet toImmutableIntSet() {
+	final int[] array = new int[this.elements.limit()];
+	this.elements.duplicate().get(array);
+	return ImmutableIntSet.ofSortedDistinct(array);
+    }
+
+}
@@ -23,48 +23,72 @@
  */
 package libSB.collections.table;
 
-import java.util.ArrayList;
-import java.util.ListIterator;
-import java.util.stream.IntStream;
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javafx.beans.value.WritableValue;
+import libSB.collections.table.basic.CellConsumer;
 import libSB.collections.table.basic.ModifiableTable;
 import libSB.collections.table.basic.StaticTable;
+import libSB.collections.table.basic.TableSpliterators;
+import libSB.functionalInterface.IntBiFunction;
 
 /**
+ * Resizable Table backed by a single contiguous Array.
+ * <p>
+ * Like ArrayList the Array reserves spare Capacity - for Rows as well as for Columns. Each Row occupies {@code stride} Slots of which the first
+ * {@code width} are in use, so adding Columns or Rows within the reserved Capacity touches no existing Cell. Exceeding the Capacity grows it by half and moves
+ * the existing Cells by one Block-Copy per Row (or one Block-Copy overall if only Rows are added).
  *
  * @author Simon Berndt
  */
 final public class ArrayListTable<T> implements ModifiableTable<T> {
 
-    private final ArrayList<WritableValue<T>> cells;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private Object[] cells;
+
+    // allocated Slots per Row
+    private int stride;
+    // allocated Rows
+    private int rowCapacity;
 
     private int width;
     private int height;
 
     public ArrayListTable(int width, int height) {
+	if (width < 0 || height < 0) {
+	    throw new IllegalArgumentException("Negative Dimension");
+	}
 	this.width = width;
 	this.height = height;
-
-	// init cells;
-	this.cells = new ArrayList<>(getCellCount());
-	IntStream.range(0, getCellCount()).forEach(i -> this.cells.add(new Cell<>()));
+	this.stride = width;
+	this.rowCapacity = height;
+	this.cells = new Object[getCellCount()];
     }
 
     public ArrayListTable(StaticTable<T> sourceTbl) {
-	this.width = sourceTbl.getColumnCount();
-	this.height = sourceTbl.getRowCount();
+	this(sourceTbl.getColumnCount(), sourceTbl.getRowCount());
 
 	// init cells;
-	this.cells = new ArrayList<>(sourceTbl.getCellCount());
-	sourceTbl.cells().forEachOrdered(this.cells::add);
+	for (int y = 0; y < getRowCount(); y++) {
+	    for (int x = 0; x < getColumnCount(); x++) {
+		this.cells[linearize(x, y, this.stride)] = sourceTbl.getCellValue(x, y);
+	    }
+	}
     }
 
-    private static int linearize(int x, int y, int width) {
-	final int offset = width * y;
+    private static int linearize(int x, int y, int stride) {
+	final int offset = stride * y;
 	return offset + x;
     }
 
+    private static int grow(int capacity, int minCapacity) {
+	final int newCapacity = capacity + (capacity >> 1);
+	return newCapacity - minCapacity < 0 ? minCapacity : newCapacity;
+    }
+
     @Override
     public int getCellCount() {
 	return getColumnCount() * getRowCount();
@@ -72,17 +96,18 @@ final public class ArrayListTable<T> implements ModifiableTable<T> {
 
     @Override
     public WritableValue<T> getCell(int x, int y) {
-	return this.cells.get(linearize(x, y, getColumnCount()));
+	return new CellAdapter(x, y);
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T getCellValue(int x, int y) {
-	return this.cells.get(linearize(x, y, getColumnCount())).getValue();
+	return (T) this.cells[linearize(x, y, this.stride)];
     }
 
     @Override
     public void setCellValue(int x, int y, T value) {
-	this.cells.get(linearize(x, y, getColumnCount())).setValue(value);
+	this.cells[linearize(x, y, this.stride)] = value;
     }
 
     @Override
@@ -97,12 +122,48 @@ final public class ArrayListTable<T> implements ModifiableTable<T> {
 
     @Override
     public Stream<WritableValue<T>> cells() {
-	return this.cells.stream();
+	return StreamSupport.stream(TableSpliterators.of(getColumnCount(), getRowCount(), (int x, int y) -> new CellAdapter(x, y)), false);
     }
 
     @Override
     public Stream<T> cellValues() {
-	return this.cells.stream().map(WritableValue::getValue);
+	return StreamSupport.stream(TableSpliterators.of(getColumnCount(), getRowCount(), this::getCellValue), false);
+    }
+
+    /**
+     * Reserves Capacity so the Table can grow to the given Dimension without moving its Cells.
+     */
+    public void ensureCapacity(int columnCapacity, int rowCapacity) {
+	if (columnCapacity > this.stride || rowCapacity > this.rowCapacity) {
+	    reallocate(Math.max(columnCapacity, this.stride), Math.max(rowCapacity, this.rowCapacity));
+	}
+    }
+
+    /**
+     * Releases all reserved but unused Capacity.
+     */
+    public void trimToSize() {
+	if (this.stride > this.width || this.rowCapacity > this.height) {
+	    reallocate(this.width, this.height);
+	}
+    }
+
+    private void reallocate(int newStride, int newRowCapacity) {
+	final long newSize = (long) newStride * newRowCapacity;
+	if (newSize > MAX_ARRAY_SIZE) {
+	    throw new OutOfMemoryError("Required Table-Capacity exceeds Array-Limit");
+	}
+	final Object[] newCells = new Object[(int) newSize];
+	if (newStride == this.stride) {
+	    System.arraycopy(this.cells, 0, newCells, 0, this.stride * this.height);
+	} else {
+	    for (int y = 0; y < this.height; y++) {
+		System.arraycopy(this.cells, linearize(0, y, this.stride), newCells, linearize(0, y, newStride), this.width);
+	    }
+	}
+	this.cells = newCells;
+	this.stride = newStride;
+	this.rowCapacity = newRowCapacity;
     }
 
     @Override
@@ -111,9 +172,12 @@ final public class ArrayListTable<T> implements ModifiableTable<T> {
     }
 
     private void addRows(int rowCount) {
-	this.height += rowCount;
-	this.cells.ensureCapacity(getCellCount());
-	IntStream.range(0, this.width * rowCount).forEach(i -> this.cells.add(new Cell<>()));
+	final int newHeight = this.height + rowCount;
+	if (newHeight > this.rowCapacity) {
+	    reallocate(this.stride, grow(this.rowCapacity, newHeight));
+	}
+	// unused Slots are always cleared - nothing to initialize
+	this.height = newHeight;
     }
 
     @Override
@@ -123,8 +187,9 @@ final public class ArrayListTable<T> implements ModifiableTable<T> {
 
     private void removeRows(int rowCount) {
 	if (this.height > rowCount) {
-	    this.height -= rowCount;
-	    removeLastCells(getColumnCount() * rowCount);
+	    final int newHeight = this.height - rowCount;
+	    Arrays.fill(this.cells, linearize(0, newHeight, this.stride), linearize(0, this.height, this.stride), null);
+	    this.height = newHeight;
 	}
     }
 
@@ -134,52 +199,29 @@ final public class ArrayListTable<T> implements ModifiableTable<T> {
     }
 
     private void addColumns(int columnCount) {
-	final int oldWidth = this.width;
-	this.width += columnCount;
-	this.cells.ensureCapacity(getCellCount());
-	IntStream.range(0, this.height * columnCount).forEach(i -> this.cells.add(new Cell<>()));
-	for (int y = getRowCount() - 1; y >= 0; y--) {
-	    for (int x = oldWidth - 1; x >= 0; x--) {
-		final WritableValue<T> oldCell = this.cells.get(linearize(x, y, oldWidth));
-		final WritableValue<T> newCell = this.cells.get(linearize(x, y, this.width));
-		newCell.setValue(oldCell.getValue());
-	    }
-	}
-	for (int y = 0; y < getRowCount(); y++) {
-	    for (int x = oldWidth; x < this.width; x++) {
-		getCell(x, y).setValue(null);
-	    }
+	final int newWidth = this.width + columnCount;
+	if (newWidth > this.stride) {
+	    reallocate(grow(this.stride, newWidth), this.rowCapacity);
 	}
+	// unused Slots are always cleared - nothing to initialize
+	this.width = newWidth;
     }
 
     @Override
     public void removeColumn() {
-	removeColumns(-1);
+	removeColumns(1);
     }
 
     private void removeColumns(int columnCount) {
 	if (this.width > columnCount) {
-	    final int oldWidth = this.width;
-	    this.width -= columnCount;
-	    for (int y = 0; y < getRowCount(); y++) {
-		for (int x = 0; x < getColumnCount(); x++) {
-		    final WritableValue<T> oldCell = this.cells.get(linearize(x, y, oldWidth));
-		    final WritableValue<T> newCell = this.cells.get(linearize(x, y, this.width));
-		    newCell.setValue(oldCell.getValue());
-		}
+	    final int newWidth = this.width - columnCount;
+	    for (int y = 0; y < this.height; y++) {
+		Arrays.fill(this.cells, linearize(newWidth, y, this.stride), linearize(this.width, y, this.stride), null);
 	    }
-	    removeLastCells(getRowCount() * columnCount);
+	    this.width = newWidth;
 	}
     }
 
-    private void removeLastCells(int count) {
-	final ListIterator<WritableValue<T>> listIterator = this.cells.listIterator(this.cells.size());
-	IntStream.range(0, count).forEach(i -> {
-	    listIterator.previous();
-	    listIterator.remove();
-	});
-    }
-
     @Override
     public void setRows(int rowCount) {
 	if (getRowCount() < rowCount) {
@@ -206,18 +248,55 @@ final public class ArrayListTable<T> implements ModifiableTable<T> {
 	setRows(rowCount);
     }
 
-    private static class Cell<T> implements WritableValue<T> {
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachCell(CellConsumer<? super T> action) {
+	for (int y = 0; y < this.height; y++) {
+	    final int offset = linearize(0, y, this.stride);
+	    for (int x = 0; x < this.width; x++) {
+		action.accept(x, y, (T) this.cells[offset + x]);
+	    }
+	}
+    }
+
+    @Override
+    public void replaceAll(IntBiFunction<? extends T> function) {
+	for (int y = 0; y < this.height; y++) {
+	    final int offset = linearize(0, y, this.stride);
+	    for (int x = 0; x < this.width; x++) {
+		this.cells[offset + x] = function.apply(x, y);
+	    }
+	}
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void transform(UnaryOperator<T> operator) {
+	for (int y = 0; y < this.height; y++) {
+	    final int offset = linearize(0, y, this.stride);
+	    for (int x = 0; x < this.width; x++) {
+		this.cells[offset + x] = operator.apply((T) this.cells[offset + x]);
+	    }
+	}
+    }
+
+    private final class CellAdapter implements WritableValue<T> {
 
-	private T value;
+	private final int x, y;
+
+	private CellAdapter(int x, int y) {
+	    this.x = x;
+	    this.y = y;
+	}
 
 	@Override
 	public T getValue() {
-	    return value;
+	    return getCellValue(this.x, this.y);
 	}
 
 	@Override
 	public void setValue(T value) {
-	    this.value = value;
+	    setCellValue(this.x, this.y, value);
 	}
 
     }
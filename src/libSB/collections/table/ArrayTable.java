@@ -24,10 +24,15 @@
 package libSB.collections.table;
 
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javafx.beans.value.WritableValue;
+import libSB.collections.table.basic.CellConsumer;
 import libSB.collections.table.basic.StaticTable;
+import libSB.collections.table.basic.TableSpliterators;
+import libSB.functionalInterface.IntBiFunction;
 
 /**
  * @author Simon Berndt
@@ -103,20 +108,39 @@ public final class ArrayTable<T> implements StaticTable<T> {
 
     @Override
     public Stream<T> cellValues() {
-	return IntStream.range(0, getRowCount()).boxed().flatMap(this::streamRowValues);
+	return StreamSupport.stream(TableSpliterators.of(getColumnCount(), getRowCount(), this::getCellValue), false);
     }
 
     @Override
     public Stream<WritableValue<T>> cells() {
-	return IntStream.range(0, getRowCount()).boxed().flatMap(this::streamRowCells);
+	return StreamSupport.stream(TableSpliterators.of(getColumnCount(), getRowCount(), (int x, int y) -> new CellAdapter(x, y)), false);
     }
 
-    private Stream<T> streamRowValues(int rowIndex) {
-	return IntStream.range(0, getColumnCount()).mapToObj((int columnIndex) -> getCellValue(columnIndex, rowIndex));
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachCell(CellConsumer<? super T> action) {
+	for (int y = 0, i = 0; y < this.height; y++) {
+	    for (int x = 0; x < this.width; x++, i++) {
+		action.accept(x, y, (T) this.cells[i]);
+	    }
+	}
+    }
+
+    @Override
+    public void replaceAll(IntBiFunction<? extends T> function) {
+	for (int y = 0, i = 0; y < this.height; y++) {
+	    for (int x = 0; x < this.width; x++, i++) {
+		this.cells[i] = function.apply(x, y);
+	    }
+	}
     }
 
-    private Stream<WritableValue<T>> streamRowCells(int rowIndex) {
-	return IntStream.range(0, getColumnCount()).mapToObj((int columnIndex) -> new CellAdapter(columnIndex, rowIndex));
+    @Override
+    @SuppressWarnings("unchecked")
+    public void transform(UnaryOperator<T> operator) {
+	for (int i = 0; i < this.cells.length; i++) {
+	    this.cells[i] = operator.apply((T) this.cells[i]);
+	}
     }
 
     private final class CellAdapter implements WritableValue<T> {
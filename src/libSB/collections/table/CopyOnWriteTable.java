@@ -0,0 +1,266 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table;
+
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javafx.beans.value.WritableValue;
+import libSB.collections.table.basic.StaticTable;
+import libSB.collections.table.basic.TableSpliterators;
+
+/**
+ * Table for a single Writer sharing its Content with many concurrent Readers by means of immutable Snapshots.
+ * <p>
+ * The Cells are stored in quadratic Tiles. Taking a Snapshot only copies the Array of Tile-References, the Tiles themselves are shared until the Writer
+ * modifies them - then just the touched Tile is copied. All modifying Methods as well as {@link #snapshot()} and {@link #publish()} must be called by the
+ * Writer-Thread only, while Snapshots may be read by any Thread.
+ *
+ * @author Simon Berndt
+ */
+public final class CopyOnWriteTable<T> implements StaticTable<T> {
+
+    public static final int DEFAULT_TILE_SIZE = 64;
+
+    private final int width;
+    private final int height;
+
+    private final int tileShift;
+    private final int tileMask;
+    private final int tilesPerRow;
+
+    private final Object[][] tiles;
+    // Version in which each Tile was copied last - Tiles of older Versions are shared with Snapshots
+    private final long[] tileVersions;
+    private long version;
+
+    private Snapshot lastSnapshot;
+    private volatile Snapshot publishedSnapshot;
+
+    public CopyOnWriteTable(int width, int height) {
+	this(width, height, DEFAULT_TILE_SIZE);
+    }
+
+    public CopyOnWriteTable(int width, int height, int tileSize) {
+	if (width < 0 || height < 0) {
+	    throw new IllegalArgumentException("Negative Dimension");
+	}
+	if (Integer.bitCount(tileSize) != 1) {
+	    throw new IllegalArgumentException("Tile-Size must be a Power of two");
+	}
+	this.width = width;
+	this.height = height;
+	this.tileShift = Integer.numberOfTrailingZeros(tileSize);
+	this.tileMask = tileSize - 1;
+	this.tilesPerRow = (width + this.tileMask) >> this.tileShift;
+	final int tileCount = this.tilesPerRow * ((height + this.tileMask) >> this.tileShift);
+	this.tiles = new Object[tileCount][tileSize * tileSize];
+	this.tileVersions = new long[tileCount];
+	this.version = 0L;
+	publish();
+    }
+
+    public CopyOnWriteTable(StaticTable<T> sourceTbl, int tileSize) {
+	this(sourceTbl.getColumnCount(), sourceTbl.getRowCount(), tileSize);
+
+	// init cells;
+	for (int y = 0; y < getRowCount(); y++) {
+	    for (int x = 0; x < getColumnCount(); x++) {
+		this.tiles[tileIndex(x, y)][innerIndex(x, y)] = sourceTbl.getCellValue(x, y);
+	    }
+	}
+	// the initial Snapshot has not escaped yet - replace it
+	this.lastSnapshot = null;
+	publish();
+    }
+
+    private int tileIndex(int x, int y) {
+	return (y >> this.tileShift) * this.tilesPerRow + (x >> this.tileShift);
+    }
+
+    private int innerIndex(int x, int y) {
+	return ((y & this.tileMask) << this.tileShift) + (x & this.tileMask);
+    }
+
+    /**
+     * Returns an immutable View of the current Content. Consecutive Calls without Modification in between return the same Snapshot.
+     */
+    public StaticTable<T> snapshot() {
+	if (this.lastSnapshot == null) {
+	    this.lastSnapshot = new Snapshot(this.tiles.clone());
+	    this.version++;
+	}
+	return this.lastSnapshot;
+    }
+
+    /**
+     * Takes a Snapshot and makes it available to Readers through {@link #getPublishedSnapshot()}.
+     */
+    public void publish() {
+	this.publishedSnapshot = (Snapshot) snapshot();
+    }
+
+    /**
+     * Returns the Snapshot most recently published by the Writer. May be called by any Thread.
+     */
+    public StaticTable<T> getPublishedSnapshot() {
+	return this.publishedSnapshot;
+    }
+
+    @Override
+    public int getCellCount() {
+	return getColumnCount() * getRowCount();
+    }
+
+    @Override
+    public WritableValue<T> getCell(int x, int y) {
+	return new CellAdapter(x, y);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getCellValue(int x, int y) {
+	return (T) this.tiles[tileIndex(x, y)][innerIndex(x, y)];
+    }
+
+    @Override
+    public void setCellValue(int x, int y, T value) {
+	final int tileIndex = tileIndex(x, y);
+	if (this.tileVersions[tileIndex] != this.version) {
+	    // Tile is shared with a Snapshot
+	    this.tiles[tileIndex] = this.tiles[tileIndex].clone();
+	    this.tileVersions[tileIndex] = this.version;
+	}
+	this.tiles[tileIndex][innerIndex(x, y)] = value;
+	this.lastSnapshot = null;
+    }
+
+    @Override
+    public int getRowCount() {
+	return this.height;
+    }
+
+    @Override
+    public int getColumnCount() {
+	return this.width;
+    }
+
+    @Override
+    public Stream<T> cellValues() {
+	return StreamSupport.stream(TableSpliterators.of(getColumnCount(), getRowCount(), this::getCellValue), false);
+    }
+
+    @Override
+    public Stream<WritableValue<T>> cells() {
+	return StreamSupport.stream(TableSpliterators.of(getColumnCount(), getRowCount(), (int x, int y) -> new CellAdapter(x, y)), false);
+    }
+
+    private final class Snapshot implements StaticTable<T> {
+
+	private final Object[][] snapshotTiles;
+
+	private Snapshot(Object[][] snapshotTiles) {
+	    this.snapshotTiles = snapshotTiles;
+	}
+
+	@Override
+	public WritableValue<T> getCell(int x, int y) {
+	    return new SnapshotCellAdapter(x, y);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T getCellValue(int x, int y) {
+	    return (T) this.snapshotTiles[tileIndex(x, y)][innerIndex(x, y)];
+	}
+
+	@Override
+	public void setCellValue(int x, int y, T value) {
+	    throw new UnsupportedOperationException("Snapshots are immutable");
+	}
+
+	@Override
+	public int getRowCount() {
+	    return CopyOnWriteTable.this.height;
+	}
+
+	@Override
+	public int getColumnCount() {
+	    return CopyOnWriteTable.this.width;
+	}
+
+	@Override
+	public Stream<WritableValue<T>> cells() {
+	    return StreamSupport.stream(TableSpliterators.of(getColumnCount(), getRowCount(), (int x, int y) -> new SnapshotCellAdapter(x, y)), false);
+	}
+
+	@Override
+	public Stream<T> cellValues() {
+	    return StreamSupport.stream(TableSpliterators.of(getColumnCount(), getRowCount(), this::getCellValue), false);
+	}
+
+	private final class SnapshotCellAdapter implements WritableValue<T> {
+
+	    private final int x, y;
+
+	    private SnapshotCellAdapter(int x, int y) {
+		this.x = x;
+		this.y = y;
+	    }
+
+	    @Override
+	    public T getValue() {
+		return getCellValue(this.x, this.y);
+	    }
+
+	    @Override
+	    public void setValue(T value) {
+		setCellValue(this.x, this.y, value);
+	    }
+
+	}
+
+    }
+
+    private final class CellAdapter implements WritableValue<T> {
+
+	private final int x, y;
+
+	private CellAdapter(int x, int y) {
+	    this.x = x;
+	    this.y = y;
+	}
+
+	@Override
+	public T getValue() {
+	    return getCellValue(this.x, this.y);
+	}
+
+	@Override
+	public void setValue(T value) {
+	    setCellValue(this.x, this.y, value);
+	}
+
+    }
+
+}
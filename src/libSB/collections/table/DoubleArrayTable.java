@@ -0,0 +1,188 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table;
+
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javafx.beans.value.WritableValue;
+import libSB.collections.table.basic.DoubleCellConsumer;
+import libSB.collections.table.basic.StaticDoubleTable;
+import libSB.collections.table.basic.StaticTable;
+import libSB.collections.table.basic.TableSpliterators;
+import libSB.functionalInterface.IntBinaryToDoubleFunction;
+
+/**
+ * Dense Table storing its Cells in a primitive double-Array.
+ *
+ * @author Simon Berndt
+ */
+public final class DoubleArrayTable implements StaticDoubleTable {
+
+    private final double[] cells;
+
+    private final int width;
+    private final int height;
+
+    public DoubleArrayTable(int width, int height) {
+	this.width = width;
+	this.height = height;
+	this.cells = new double[getCellCount()];
+    }
+
+    public DoubleArrayTable(int width, int height, double initialValue) {
+	this(width, height);
+	Arrays.fill(this.cells, initialValue);
+    }
+
+    public DoubleArrayTable(StaticTable<? extends Number> sourceTbl) {
+	this.width = sourceTbl.getColumnCount();
+	this.height = sourceTbl.getRowCount();
+
+	// init cells;
+	if (sourceTbl instanceof DoubleArrayTable) {
+	    this.cells = ((DoubleArrayTable) sourceTbl).cells.clone();
+	} else if (sourceTbl instanceof StaticDoubleTable) {
+	    final StaticDoubleTable primitiveSourceTbl = (StaticDoubleTable) sourceTbl;
+	    this.cells = new double[getCellCount()];
+	    for (int y = 0; y < getRowCount(); y++) {
+		for (int x = 0; x < getColumnCount(); x++) {
+		    this.cells[linearize(x, y, getColumnCount())] = primitiveSourceTbl.getAsDouble(x, y);
+		}
+	    }
+	} else {
+	    this.cells = new double[getCellCount()];
+	    for (int y = 0; y < getRowCount(); y++) {
+		for (int x = 0; x < getColumnCount(); x++) {
+		    this.cells[linearize(x, y, getColumnCount())] = sourceTbl.getCellValue(x, y).doubleValue();
+		}
+	    }
+	}
+    }
+
+    private static int linearize(int x, int y, int width) {
+	final int offset = width * y;
+	return offset + x;
+    }
+
+    @Override
+    public int getCellCount() {
+	return getColumnCount() * getRowCount();
+    }
+
+    @Override
+    public double getAsDouble(int x, int y) {
+	return this.cells[linearize(x, y, getColumnCount())];
+    }
+
+    @Override
+    public void set(int x, int y, double value) {
+	this.cells[linearize(x, y, getColumnCount())] = value;
+    }
+
+    @Override
+    public WritableValue<Double> getCell(int x, int y) {
+	return new CellAdapter(x, y);
+    }
+
+    @Override
+    public int getRowCount() {
+	return this.height;
+    }
+
+    @Override
+    public int getColumnCount() {
+	return this.width;
+    }
+
+    @Override
+    public Stream<Double> cellValues() {
+	return cellValuesAsDouble().boxed();
+    }
+
+    @Override
+    public Stream<WritableValue<Double>> cells() {
+	return StreamSupport.stream(TableSpliterators.of(getColumnCount(), getRowCount(), (int x, int y) -> new CellAdapter(x, y)), false);
+    }
+
+    @Override
+    public DoubleStream cellValuesAsDouble() {
+	return Arrays.stream(this.cells);
+    }
+
+    @Override
+    public DoubleStream rowAsDouble(int y) {
+	final int offset = linearize(0, y, getColumnCount());
+	return Arrays.stream(this.cells, offset, offset + getColumnCount());
+    }
+
+    @Override
+    public void forEachCellAsDouble(DoubleCellConsumer action) {
+	for (int y = 0, i = 0; y < this.height; y++) {
+	    for (int x = 0; x < this.width; x++, i++) {
+		action.accept(x, y, this.cells[i]);
+	    }
+	}
+    }
+
+    @Override
+    public void replaceAllAsDouble(IntBinaryToDoubleFunction function) {
+	for (int y = 0, i = 0; y < this.height; y++) {
+	    for (int x = 0; x < this.width; x++, i++) {
+		this.cells[i] = function.applyAsDouble(x, y);
+	    }
+	}
+    }
+
+    @Override
+    public void transformAsDouble(DoubleUnaryOperator operator) {
+	for (int i = 0; i < this.cells.length; i++) {
+	    this.cells[i] = operator.applyAsDouble(this.cells[i]);
+	}
+    }
+
+    private final class CellAdapter implements WritableValue<Double> {
+
+	private final int x, y;
+
+	private CellAdapter(int x, int y) {
+	    this.x = x;
+	    this.y = y;
+	}
+
+	@Override
+	public Double getValue() {
+	    return getAsDouble(this.x, this.y);
+	}
+
+	@Override
+	public void setValue(Double value) {
+	    set(this.x, this.y, value);
+	}
+
+    }
+
+}
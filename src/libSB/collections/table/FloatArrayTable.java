@@ -0,0 +1,189 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table;
+
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javafx.beans.value.WritableValue;
+import libSB.collections.table.basic.FloatCellConsumer;
+import libSB.collections.table.basic.StaticFloatTable;
+import libSB.collections.table.basic.StaticTable;
+import libSB.collections.table.basic.TableSpliterators;
+import libSB.functionalInterface.IntBinaryToFloatFunction;
+import libSB.functionalInterface.primitives.operator.FloatUnaryOperator;
+
+/**
+ * Dense Table storing its Cells in a primitive float-Array.
+ *
+ * @author Simon Berndt
+ */
+public final class FloatArrayTable implements StaticFloatTable {
+
+    private final float[] cells;
+
+    private final int width;
+    private final int height;
+
+    public FloatArrayTable(int width, int height) {
+	this.width = width;
+	this.height = height;
+	this.cells = new float[getCellCount()];
+    }
+
+    public FloatArrayTable(int width, int height, float initialValue) {
+	this(width, height);
+	Arrays.fill(this.cells, initialValue);
+    }
+
+    public FloatArrayTable(StaticTable<? extends Number> sourceTbl) {
+	this.width = sourceTbl.getColumnCount();
+	this.height = sourceTbl.getRowCount();
+
+	// init cells;
+	if (sourceTbl instanceof FloatArrayTable) {
+	    this.cells = ((FloatArrayTable) sourceTbl).cells.clone();
+	} else if (sourceTbl instanceof StaticFloatTable) {
+	    final StaticFloatTable primitiveSourceTbl = (StaticFloatTable) sourceTbl;
+	    this.cells = new float[getCellCount()];
+	    for (int y = 0; y < getRowCount(); y++) {
+		for (int x = 0; x < getColumnCount(); x++) {
+		    this.cells[linearize(x, y, getColumnCount())] = primitiveSourceTbl.getAsFloat(x, y);
+		}
+	    }
+	} else {
+	    this.cells = new float[getCellCount()];
+	    for (int y = 0; y < getRowCount(); y++) {
+		for (int x = 0; x < getColumnCount(); x++) {
+		    this.cells[linearize(x, y, getColumnCount())] = sourceTbl.getCellValue(x, y).floatValue();
+		}
+	    }
+	}
+    }
+
+    private static int linearize(int x, int y, int width) {
+	final int offset = width * y;
+	return offset + x;
+    }
+
+    @Override
+    public int getCellCount() {
+	return getColumnCount() * getRowCount();
+    }
+
+    @Override
+    public float getAsFloat(int x, int y) {
+	return this.cells[linearize(x, y, getColumnCount())];
+    }
+
+    @Override
+    public void set(int x, int y, float value) {
+	this.cells[linearize(x, y, getColumnCount())] = value;
+    }
+
+    @Override
+    public WritableValue<Float> getCell(int x, int y) {
+	return new CellAdapter(x, y);
+    }
+
+    @Override
+    public int getRowCount() {
+	return this.height;
+    }
+
+    @Override
+    public int getColumnCount() {
+	return this.width;
+    }
+
+    @Override
+    public Stream<Float> cellValues() {
+	return IntStream.range(0, this.cells.length).mapToObj((int i) -> this.cells[i]);
+    }
+
+    @Override
+    public Stream<WritableValue<Float>> cells() {
+	return StreamSupport.stream(TableSpliterators.of(getColumnCount(), getRowCount(), (int x, int y) -> new CellAdapter(x, y)), false);
+    }
+
+    @Override
+    public DoubleStream cellValuesAsDouble() {
+	return IntStream.range(0, this.cells.length).mapToDouble((int i) -> this.cells[i]);
+    }
+
+    @Override
+    public DoubleStream rowAsDouble(int y) {
+	final int offset = linearize(0, y, getColumnCount());
+	return IntStream.range(offset, offset + getColumnCount()).mapToDouble((int i) -> this.cells[i]);
+    }
+
+    @Override
+    public void forEachCellAsFloat(FloatCellConsumer action) {
+	for (int y = 0, i = 0; y < this.height; y++) {
+	    for (int x = 0; x < this.width; x++, i++) {
+		action.accept(x, y, this.cells[i]);
+	    }
+	}
+    }
+
+    @Override
+    public void replaceAllAsFloat(IntBinaryToFloatFunction function) {
+	for (int y = 0, i = 0; y < this.height; y++) {
+	    for (int x = 0; x < this.width; x++, i++) {
+		this.cells[i] = function.applyAsFloat(x, y);
+	    }
+	}
+    }
+
+    @Override
+    public void transformAsFloat(FloatUnaryOperator operator) {
+	for (int i = 0; i < this.cells.length; i++) {
+	    this.cells[i] = operator.applyAsFloat(this.cells[i]);
+	}
+    }
+
+    private final class CellAdapter implements WritableValue<Float> {
+
+	private final int x, y;
+
+	private CellAdapter(int x, int y) {
+	    this.x = x;
+	    this.y = y;
+	}
+
+	@Override
+	public Float getValue() {
+	    return getAsFloat(this.x, this.y);
+	}
+
+	@Override
+	public void setValue(Float value) {
+	    set(this.x, this.y, value);
+	}
+
+    }
+
+}
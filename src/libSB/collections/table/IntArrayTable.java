@@ -0,0 +1,188 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table;
+
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javafx.beans.value.WritableValue;
+import libSB.collections.table.basic.IntCellConsumer;
+import libSB.collections.table.basic.StaticIntTable;
+import libSB.collections.table.basic.StaticTable;
+import libSB.collections.table.basic.TableSpliterators;
+
+/**
+ * Dense Table storing its Cells in a primitive int-Array.
+ *
+ * @author Simon Berndt
+ */
+public final class IntArrayTable implements StaticIntTable {
+
+    private final int[] cells;
+
+    private final int width;
+    private final int height;
+
+    public IntArrayTable(int width, int height) {
+	this.width = width;
+	this.height = height;
+	this.cells = new int[getCellCount()];
+    }
+
+    public IntArrayTable(int width, int height, int initialValue) {
+	this(width, height);
+	Arrays.fill(this.cells, initialValue);
+    }
+
+    public IntArrayTable(StaticTable<? extends Number> sourceTbl) {
+	this.width = sourceTbl.getColumnCount();
+	this.height = sourceTbl.getRowCount();
+
+	// init cells;
+	if (sourceTbl instanceof IntArrayTable) {
+	    this.cells = ((IntArrayTable) sourceTbl).cells.clone();
+	} else if (sourceTbl instanceof StaticIntTable) {
+	    final StaticIntTable primitiveSourceTbl = (StaticIntTable) sourceTbl;
+	    this.cells = new int[getCellCount()];
+	    for (int y = 0; y < getRowCount(); y++) {
+		for (int x = 0; x < getColumnCount(); x++) {
+		    this.cells[linearize(x, y, getColumnCount())] = primitiveSourceTbl.getAsInt(x, y);
+		}
+	    }
+	} else {
+	    this.cells = new int[getCellCount()];
+	    for (int y = 0; y < getRowCount(); y++) {
+		for (int x = 0; x < getColumnCount(); x++) {
+		    this.cells[linearize(x, y, getColumnCount())] = sourceTbl.getCellValue(x, y).intValue();
+		}
+	    }
+	}
+    }
+
+    private static int linearize(int x, int y, int width) {
+	final int offset = width * y;
+	return offset + x;
+    }
+
+    @Override
+    public int getCellCount() {
+	return getColumnCount() * getRowCount();
+    }
+
+    @Override
+    public int getAsInt(int x, int y) {
+	return this.cells[linearize(x, y, getColumnCount())];
+    }
+
+    @Override
+    public void set(int x, int y, int value) {
+	this.cells[linearize(x, y, getColumnCount())] = value;
+    }
+
+    @Override
+    public WritableValue<Integer> getCell(int x, int y) {
+	return new CellAdapter(x, y);
+    }
+
+    @Override
+    public int getRowCount() {
+	return this.height;
+    }
+
+    @Override
+    public int getColumnCount() {
+	return this.width;
+    }
+
+    @Override
+    public Stream<Integer> cellValues() {
+	return cellValuesAsInt().boxed();
+    }
+
+    @Override
+    public Stream<WritableValue<Integer>> cells() {
+	return StreamSupport.stream(TableSpliterators.of(getColumnCount(), getRowCount(), (int x, int y) -> new CellAdapter(x, y)), false);
+    }
+
+    @Override
+    public IntStream cellValuesAsInt() {
+	return Arrays.stream(this.cells);
+    }
+
+    @Override
+    public IntStream rowAsInt(int y) {
+	final int offset = linearize(0, y, getColumnCount());
+	return Arrays.stream(this.cells, offset, offset + getColumnCount());
+    }
+
+    @Override
+    public void forEachCellAsInt(IntCellConsumer action) {
+	for (int y = 0, i = 0; y < this.height; y++) {
+	    for (int x = 0; x < this.width; x++, i++) {
+		action.accept(x, y, this.cells[i]);
+	    }
+	}
+    }
+
+    @Override
+    public void replaceAllAsInt(IntBinaryOperator function) {
+	for (int y = 0, i = 0; y < this.height; y++) {
+	    for (int x = 0; x < this.width; x++, i++) {
+		this.cells[i] = function.applyAsInt(x, y);
+	    }
+	}
+    }
+
+    @Override
+    public void transformAsInt(IntUnaryOperator operator) {
+	for (int i = 0; i < this.cells.length; i++) {
+	    this.cells[i] = operator.applyAsInt(this.cells[i]);
+	}
+    }
+
+    private final class CellAdapter implements WritableValue<Integer> {
+
+	private final int x, y;
+
+	private CellAdapter(int x, int y) {
+	    this.x = x;
+	    this.y = y;
+	}
+
+	@Override
+	public Integer getValue() {
+	    return getAsInt(this.x, this.y);
+	}
+
+	@Override
+	public void setValue(Integer value) {
+	    set(this.x, this.y, value);
+	}
+
+    }
+
+}
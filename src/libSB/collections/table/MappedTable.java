@@ -0,0 +1,260 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javafx.beans.value.WritableValue;
+import libSB.collections.table.basic.StaticTable;
+import libSB.collections.table.basic.TableSpliterators;
+import libSB.collections.table.codec.CellCodec;
+import libSB.collections.table.layout.CellLayout;
+import libSB.collections.table.layout.RowMajorCellLayout;
+import libSB.collections.table.layout.TiledCellLayout;
+
+/**
+ * Table whose Cells live off-heap in a memory-mapped File.
+ * <p>
+ * The File starts with a small Header describing Dimension, Layout and Cell-Size, so an existing File can be reopened without touching its Content. Files
+ * exceeding the 2GB-Limit of a single MappedByteBuffer are mapped in several Chunks. Mapped Memory is released by the Garbage-Collector, closing the Table
+ * only releases the File-Handle.
+ *
+ * @author Simon Berndt
+ */
+final public class MappedTable<T> implements StaticTable<T>, Closeable {
+
+    private static final int MAGIC = 0x53425442; // "SBTB"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+
+    private static final int LAYOUT_ROW_MAJOR = 0;
+    private static final int LAYOUT_TILED = 1;
+
+    private static final int MAX_CHUNK_SIZE = 1 << 30;
+
+    private final FileChannel channel;
+    private final CellLayout layout;
+    private final CellCodec<T> codec;
+    private final int cellSize;
+    private final long chunkCellCount;
+    private final MappedByteBuffer[] chunks;
+
+    private MappedTable(FileChannel channel, CellLayout layout, CellCodec<T> codec) throws IOException {
+	this.channel = channel;
+	this.layout = layout;
+	this.codec = codec;
+	this.cellSize = codec.getCellSize();
+	this.chunkCellCount = MAX_CHUNK_SIZE / this.cellSize;
+
+	// map chunks;
+	final long cellCapacity = layout.getCellCapacity();
+	final int chunkCount = (int) ((cellCapacity + this.chunkCellCount - 1) / this.chunkCellCount);
+	this.chunks = new MappedByteBuffer[chunkCount];
+	for (int i = 0; i < chunkCount; i++) {
+	    final long firstCell = i * this.chunkCellCount;
+	    final long cellsInChunk = Math.min(this.chunkCellCount, cellCapacity - firstCell);
+	    this.chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + firstCell * this.cellSize, cellsInChunk * this.cellSize);
+	}
+    }
+
+    /**
+     * Creates a new File (or overwrites an existing one) holding a Table of the given Layout. All Cells are initially zeroed.
+     */
+    public static <T> MappedTable<T> create(Path file, CellLayout layout, CellCodec<T> codec) throws IOException {
+	final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+	header.putInt(MAGIC);
+	header.putInt(VERSION);
+	header.putInt(codec.getCellSize());
+	header.putInt(layout.getColumnCount());
+	header.putInt(layout.getRowCount());
+	if (layout instanceof RowMajorCellLayout) {
+	    header.putInt(LAYOUT_ROW_MAJOR);
+	    header.putInt(0);
+	    header.putInt(0);
+	} else if (layout instanceof TiledCellLayout) {
+	    final TiledCellLayout tiledLayout = (TiledCellLayout) layout;
+	    header.putInt(LAYOUT_TILED);
+	    header.putInt(tiledLayout.getTileWidth());
+	    header.putInt(tiledLayout.getTileHeight());
+	} else {
+	    throw new IllegalArgumentException("Unsupported Layout: " + layout.getClass().getName());
+	}
+	header.rewind();
+
+	final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+	try {
+	    while (header.hasRemaining()) {
+		channel.write(header, header.position());
+	    }
+	    return new MappedTable<>(channel, layout, codec);
+	} catch (IOException | RuntimeException ex) {
+	    channel.close();
+	    throw ex;
+	}
+    }
+
+    /**
+     * Opens a File previously created by {@link #create(Path, CellLayout, CellCodec)}. Only the Header is read, the Content is paged in on Demand.
+     */
+    public static <T> MappedTable<T> open(Path file, CellCodec<T> codec) throws IOException {
+	final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+	try {
+	    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+	    while (header.hasRemaining()) {
+		if (channel.read(header, header.position()) < 0) {
+		    throw new IOException("Truncated Header");
+		}
+	    }
+	    header.flip();
+	    if (header.getInt() != MAGIC) {
+		throw new IOException("Not a Table-File");
+	    }
+	    final int version = header.getInt();
+	    if (version != VERSION) {
+		throw new IOException("Unsupported Version: " + version);
+	    }
+	    final int cellSize = header.getInt();
+	    if (cellSize != codec.getCellSize()) {
+		throw new IOException("Cell-Size of File (" + cellSize + ") does not match Codec (" + codec.getCellSize() + ")");
+	    }
+	    final int width = header.getInt();
+	    final int height = header.getInt();
+	    final int layoutType = header.getInt();
+	    final int tileWidth = header.getInt();
+	    final int tileHeight = header.getInt();
+	    final CellLayout layout;
+	    switch (layoutType) {
+		case LAYOUT_ROW_MAJOR:
+		    layout = new RowMajorCellLayout(width, height);
+		    break;
+		case LAYOUT_TILED:
+		    layout = new TiledCellLayout(width, height, tileWidth, tileHeight);
+		    break;
+		default:
+		    throw new IOException("Unsupported Layout: " + layoutType);
+	    }
+	    if (channel.size() < HEADER_SIZE + layout.getCellCapacity() * cellSize) {
+		throw new IOException("Truncated Content");
+	    }
+	    return new MappedTable<>(channel, layout, codec);
+	} catch (IOException | RuntimeException ex) {
+	    channel.close();
+	    throw ex;
+	}
+    }
+
+    public CellLayout getLayout() {
+	return this.layout;
+    }
+
+    @Override
+    public int getCellCount() {
+	return getColumnCount() * getRowCount();
+    }
+
+    @Override
+    public WritableValue<T> getCell(int x, int y) {
+	return new CellAdapter(x, y);
+    }
+
+    @Override
+    public T getCellValue(int x, int y) {
+	final long index = this.layout.linearize(x, y);
+	final int chunk = (int) (index / this.chunkCellCount);
+	final int offset = (int) (index - chunk * this.chunkCellCount) * this.cellSize;
+	return this.codec.read(this.chunks[chunk], offset);
+    }
+
+    @Override
+    public void setCellValue(int x, int y, T value) {
+	final long index = this.layout.linearize(x, y);
+	final int chunk = (int) (index / this.chunkCellCount);
+	final int offset = (int) (index - chunk * this.chunkCellCount) * this.cellSize;
+	this.codec.write(this.chunks[chunk], offset, value);
+    }
+
+    @Override
+    public int getRowCount() {
+	return this.layout.getRowCount();
+    }
+
+    @Override
+    public int getColumnCount() {
+	return this.layout.getColumnCount();
+    }
+
+    @Override
+    public Stream<T> cellValues() {
+	return StreamSupport.stream(TableSpliterators.of(getColumnCount(), getRowCount(), this::getCellValue), false);
+    }
+
+    @Override
+    public Stream<WritableValue<T>> cells() {
+	return StreamSupport.stream(TableSpliterators.of(getColumnCount(), getRowCount(), (int x, int y) -> new CellAdapter(x, y)), false);
+    }
+
+    /**
+     * Writes all modified Cells back to the Storage-Device.
+     */
+    public void force() {
+	for (final MappedByteBuffer chunk : this.chunks) {
+	    chunk.force();
+	}
+    }
+
+    @Override
+    public void close() throws IOException {
+	force();
+	this.channel.close();
+    }
+
+    private final class CellAdapter implements WritableValue<T> {
+
+	private final int x, y;
+
+	private CellAdapter(int x, int y) {
+	    this.x = x;
+	    this.y = y;
+	}
+
+	@Override
+	public T getValue() {
+	    return getCellValue(this.x, this.y);
+	}
+
+	@Override
+	public void setValue(T value) {
+	    setCellValue(this.x, this.y, value);
+	}
+
+    }
+
+}
@@ -0,0 +1,348 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javafx.beans.value.WritableValue;
+import libSB.collections.table.basic.CellConsumer;
+import libSB.collections.table.basic.ModifiableTable;
+import libSB.collections.table.basic.StaticTable;
+import libSB.collections.table.basic.TableSpliterators;
+
+/**
+ * Resizable Table storing only Cells which are not null.
+ * <p>
+ * Occupied Cells are kept in an open-addressing Hash-Table keyed by their packed Position, so Memory scales with the Number of occupied Cells rather than
+ * with the Dimension of the Table. Setting a Cell to null removes it. Adding Rows or Columns is free, removing them only touches occupied Cells.
+ *
+ * @author Simon Berndt
+ */
+final public class SparseTable<T> implements ModifiableTable<T> {
+
+    private static final long FREE = -1L;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values;
+    private int occupied;
+
+    private int width;
+    private int height;
+
+    public SparseTable(int width, int height) {
+	if (width < 0 || height < 0) {
+	    throw new IllegalArgumentException("Negative Dimension");
+	}
+	this.width = width;
+	this.height = height;
+	allocate(MIN_CAPACITY);
+    }
+
+    public SparseTable(StaticTable<T> sourceTbl) {
+	this(sourceTbl.getColumnCount(), sourceTbl.getRowCount());
+
+	// init cells;
+	for (int y = 0; y < getRowCount(); y++) {
+	    for (int x = 0; x < getColumnCount(); x++) {
+		setCellValue(x, y, sourceTbl.getCellValue(x, y));
+	    }
+	}
+    }
+
+    private void allocate(int capacity) {
+	this.keys = new long[capacity];
+	Arrays.fill(this.keys, FREE);
+	this.values = new Object[capacity];
+	this.occupied = 0;
+    }
+
+    private static int capacityFor(int size) {
+	final int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, size) * 2 - 1) << 1;
+	return Math.max(MIN_CAPACITY, capacity);
+    }
+
+    private int slotOf(long key) {
+	final long hash = key * 0x9E3779B97F4A7C15L;
+	return (int) (hash >>> 32) & (this.keys.length - 1);
+    }
+
+    private int find(long key) {
+	final int mask = this.keys.length - 1;
+	for (int slot = slotOf(key);; slot = (slot + 1) & mask) {
+	    final long slotKey = this.keys[slot];
+	    if (slotKey == key) {
+		return slot;
+	    }
+	    if (slotKey == FREE) {
+		return -1;
+	    }
+	}
+    }
+
+    private void insert(long key, Object value) {
+	final int mask = this.keys.length - 1;
+	for (int slot = slotOf(key);; slot = (slot + 1) & mask) {
+	    final long slotKey = this.keys[slot];
+	    if (slotKey == key) {
+		this.values[slot] = value;
+		return;
+	    }
+	    if (slotKey == FREE) {
+		this.keys[slot] = key;
+		this.values[slot] = value;
+		this.occupied++;
+		if (this.occupied * 4 > this.keys.length * 3) {
+		    rehash(this.keys.length << 1, false);
+		}
+		return;
+	    }
+	}
+    }
+
+    private void remove(long key) {
+	int slot = find(key);
+	if (slot < 0) {
+	    return;
+	}
+	// shift following Entries of the Cluster back, so no Tombstones are needed
+	final int mask = this.keys.length - 1;
+	for (int next = (slot + 1) & mask;; next = (next + 1) & mask) {
+	    final long nextKey = this.keys[next];
+	    if (nextKey == FREE) {
+		break;
+	    }
+	    final int home = slotOf(nextKey);
+	    // move if the Home-Slot of the Entry is not within (slot, next]
+	    if (((next - home) & mask) >= ((next - slot) & mask)) {
+		this.keys[slot] = nextKey;
+		this.values[slot] = this.values[next];
+		slot = next;
+	    }
+	}
+	this.keys[slot] = FREE;
+	this.values[slot] = null;
+	this.occupied--;
+    }
+
+    /**
+     * @param dropOutside whether Cells beyond the current Dimension are dropped, only needed after shrinking
+     */
+    private void rehash(int capacity, boolean dropOutside) {
+	final long[] oldKeys = this.keys;
+	final Object[] oldValues = this.values;
+	allocate(capacity);
+	for (int i = 0; i < oldKeys.length; i++) {
+	    final long key = oldKeys[i];
+	    if (key != FREE && (!dropOutside || TableSpliterators.unpackX(key) < this.width && TableSpliterators.unpackY(key) < this.height)) {
+		insert(key, oldValues[i]);
+	    }
+	}
+    }
+
+    /**
+     * Number of Cells which are not null.
+     */
+    public int getOccupiedCellCount() {
+	return this.occupied;
+    }
+
+    /**
+     * Visits all Cells which are not null in unspecified Order.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachOccupiedCell(CellConsumer<? super T> action) {
+	final long[] currentKeys = this.keys;
+	final Object[] currentValues = this.values;
+	for (int i = 0; i < currentKeys.length; i++) {
+	    final long key = currentKeys[i];
+	    if (key != FREE) {
+		action.accept(TableSpliterators.unpackX(key), TableSpliterators.unpackY(key), (T) currentValues[i]);
+	    }
+	}
+    }
+
+    /**
+     * Positions of all Cells which are not null in unspecified Order, packed by {@link TableSpliterators#pack(int, int)}.
+     */
+    public LongStream occupiedCellPositions() {
+	return Arrays.stream(this.keys).filter((long key) -> key != FREE);
+    }
+
+    @Override
+    public int getCellCount() {
+	return getColumnCount() * getRowCount();
+    }
+
+    @Override
+    public WritableValue<T> getCell(int x, int y) {
+	return new CellAdapter(x, y);
+    }
+
+    private void checkPosition(int x, int y) {
+	if (x < 0 || x >= this.width || y < 0 || y >= this.height) {
+	    throw new IndexOutOfBoundsException("Cell (" + x + ", " + y + ") out of " + this.width + "x" + this.height);
+	}
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getCellValue(int x, int y) {
+	checkPosition(x, y);
+	final int slot = find(TableSpliterators.pack(x, y));
+	return slot < 0 ? null : (T) this.values[slot];
+    }
+
+    @Override
+    public void setCellValue(int x, int y, T value) {
+	checkPosition(x, y);
+	if (value == null) {
+	    remove(TableSpliterators.pack(x, y));
+	} else {
+	    insert(TableSpliterators.pack(x, y), value);
+	}
+    }
+
+    @Override
+    public int getRowCount() {
+	return this.height;
+    }
+
+    @Override
+    public int getColumnCount() {
+	return this.width;
+    }
+
+    @Override
+    public Stream<WritableValue<T>> cells() {
+	return StreamSupport.stream(TableSpliterators.of(getColumnCount(), getRowCount(), (int x, int y) -> new CellAdapter(x, y)), false);
+    }
+
+    @Override
+    public Stream<T> cellValues() {
+	return StreamSupport.stream(TableSpliterators.of(getColumnCount(), getRowCount(), this::getCellValue), false);
+    }
+
+    @Override
+    public void addRow() {
+	addRows(1);
+    }
+
+    private void addRows(int rowCount) {
+	this.height += rowCount;
+    }
+
+    @Override
+    public void removeRow() {
+	removeRows(1);
+    }
+
+    private void removeRows(int rowCount) {
+	if (this.height > rowCount) {
+	    this.height -= rowCount;
+	    rehash(this.keys.length, true);
+	    shrinkToFit();
+	}
+    }
+
+    @Override
+    public void addColumn() {
+	addColumns(1);
+    }
+
+    private void addColumns(int columnCount) {
+	this.width += columnCount;
+    }
+
+    @Override
+    public void removeColumn() {
+	removeColumns(1);
+    }
+
+    private void removeColumns(int columnCount) {
+	if (this.width > columnCount) {
+	    this.width -= columnCount;
+	    rehash(this.keys.length, true);
+	    shrinkToFit();
+	}
+    }
+
+    private void shrinkToFit() {
+	final int capacity = capacityFor(this.occupied);
+	if (capacity < this.keys.length) {
+	    rehash(capacity, false);
+	}
+    }
+
+    @Override
+    public void setRows(int rowCount) {
+	if (getRowCount() < rowCount) {
+	    addRows(rowCount - getRowCount());
+	}
+	if (getRowCount() > rowCount) {
+	    removeRows(getRowCount() - rowCount);
+	}
+    }
+
+    @Override
+    public void setColumns(int columnCount) {
+	if (getColumnCount() < columnCount) {
+	    addColumns(columnCount - getColumnCount());
+	}
+	if (getColumnCount() > columnCount) {
+	    removeColumns(getColumnCount() - columnCount);
+	}
+    }
+
+    @Override
+    public void setDimension(int rowCount, int columnClount) {
+	setColumns(columnClount);
+	setRows(rowCount);
+    }
+
+    private final class CellAdapter implements WritableValue<T> {
+
+	private final int x, y;
+
+	private CellAdapter(int x, int y) {
+	    checkPosition(x, y);
+	    this.x = x;
+	    this.y = y;
+	}
+
+	@Override
+	public T getValue() {
+	    return getCellValue(this.x, this.y);
+	}
+
+	@Override
+	public void setValue(T value) {
+	    setCellValue(this.x, this.y, value);
+	}
+
+    }
+
+}
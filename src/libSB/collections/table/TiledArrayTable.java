@@ -0,0 +1,243 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javafx.beans.value.WritableValue;
+import libSB.collections.table.basic.StaticTable;
+import libSB.collections.table.basic.TableSpliterators;
+import libSB.collections.table.borderHandling.BorderHandling;
+import libSB.collections.table.neighborhood.Neighborhood;
+
+/**
+ * Table storing its Cells in rectangular Tiles, so Cells which are close in both Dimensions are close in Memory as well.
+ * <p>
+ * Tiles are ordered row-major and each Tile is stored row-major itself. Tile-Dimensions must be Powers of two, so the Index-Computation reduces to Shifts
+ * and Masks. The Table is padded to a whole Number of Tiles.
+ *
+ * @author Simon Berndt
+ */
+public final class TiledArrayTable<T> implements StaticTable<T> {
+
+    public static final int DEFAULT_TILE_SIZE = 16;
+
+    private final Object[] cells;
+
+    private final int width;
+    private final int height;
+
+    private final int tileShiftX;
+    private final int tileShiftY;
+    private final int tileMaskX;
+    private final int tileMaskY;
+    private final int tilesPerRow;
+    private final int tilesPerColumn;
+
+    public TiledArrayTable(int width, int height) {
+	this(width, height, DEFAULT_TILE_SIZE, DEFAULT_TILE_SIZE);
+    }
+
+    public TiledArrayTable(int width, int height, int tileWidth, int tileHeight) {
+	if (width < 0 || height < 0) {
+	    throw new IllegalArgumentException("Negative Dimension");
+	}
+	if (Integer.bitCount(tileWidth) != 1 || Integer.bitCount(tileHeight) != 1) {
+	    throw new IllegalArgumentException("Tile-Dimension must be a Power of two");
+	}
+	this.width = width;
+	this.height = height;
+	this.tileShiftX = Integer.numberOfTrailingZeros(tileWidth);
+	this.tileShiftY = Integer.numberOfTrailingZeros(tileHeight);
+	this.tileMaskX = tileWidth - 1;
+	this.tileMaskY = tileHeight - 1;
+	this.tilesPerRow = (width + this.tileMaskX) >> this.tileShiftX;
+	this.tilesPerColumn = (height + this.tileMaskY) >> this.tileShiftY;
+	this.cells = new Object[(this.tilesPerRow * this.tilesPerColumn) << (this.tileShiftX + this.tileShiftY)];
+    }
+
+    public TiledArrayTable(StaticTable<T> sourceTbl, int tileWidth, int tileHeight) {
+	this(sourceTbl.getColumnCount(), sourceTbl.getRowCount(), tileWidth, tileHeight);
+
+	// init cells;
+	for (int y = 0; y < getRowCount(); y++) {
+	    for (int x = 0; x < getColumnCount(); x++) {
+		this.cells[linearize(x, y)] = sourceTbl.getCellValue(x, y);
+	    }
+	}
+    }
+
+    private int linearize(int x, int y) {
+	final int tileIndex = (y >> this.tileShiftY) * this.tilesPerRow + (x >> this.tileShiftX);
+	return (tileIndex << (this.tileShiftX + this.tileShiftY)) + ((y & this.tileMaskY) << this.tileShiftX) + (x & this.tileMaskX);
+    }
+
+    public int getTileWidth() {
+	return this.tileMaskX + 1;
+    }
+
+    public int getTileHeight() {
+	return this.tileMaskY + 1;
+    }
+
+    @Override
+    public int getCellCount() {
+	return getColumnCount() * getRowCount();
+    }
+
+    @Override
+    public WritableValue<T> getCell(int x, int y) {
+	return new CellAdapter(x, y);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getCellValue(int x, int y) {
+	return (T) this.cells[linearize(x, y)];
+    }
+
+    @Override
+    public void setCellValue(int x, int y, T value) {
+	this.cells[linearize(x, y)] = value;
+    }
+
+    @Override
+    public int getRowCount() {
+	return this.height;
+    }
+
+    @Override
+    public int getColumnCount() {
+	return this.width;
+    }
+
+    @Override
+    public Stream<T> cellValues() {
+	return StreamSupport.stream(TableSpliterators.of(getColumnCount(), getRowCount(), this::getCellValue), false);
+    }
+
+    @Override
+    public Stream<WritableValue<T>> cells() {
+	return StreamSupport.stream(TableSpliterators.of(getColumnCount(), getRowCount(), (int x, int y) -> new CellAdapter(x, y)), false);
+    }
+
+    /**
+     * Visits the Neighborhood of every Cell. Cells are visited Tile by Tile, so all Neighborhoods of a Tile are processed while it is cached.
+     * <p>
+     * Only Neighborhoods reaching over the Table-Border consult the BorderHandling, all others read the Cells directly. Positions mapped to
+     * {@link BorderHandling#OUTSIDE} read as null. The Neighborhood passed to the Action is a Flyweight and must not be retained.
+     */
+    public void forEachNeighborhood(int radius, BorderHandling borderHandling, Consumer<? super Neighborhood<T>> action) {
+	if (radius < 0) {
+	    throw new IllegalArgumentException("Negative Radius");
+	}
+	final TileNeighborhood neighborhood = new TileNeighborhood(radius, borderHandling);
+	for (int tileY = 0; tileY < this.tilesPerColumn; tileY++) {
+	    final int minY = tileY << this.tileShiftY;
+	    final int maxY = Math.min(minY + this.tileMaskY + 1, this.height);
+	    for (int tileX = 0; tileX < this.tilesPerRow; tileX++) {
+		final int minX = tileX << this.tileShiftX;
+		final int maxX = Math.min(minX + this.tileMaskX + 1, this.width);
+		for (int y = minY; y < maxY; y++) {
+		    for (int x = minX; x < maxX; x++) {
+			neighborhood.moveTo(x, y);
+			action.accept(neighborhood);
+		    }
+		}
+	    }
+	}
+    }
+
+    private final class TileNeighborhood implements Neighborhood<T> {
+
+	private final int radius;
+	private final BorderHandling borderHandling;
+
+	private int x, y;
+	private boolean interior;
+
+	private TileNeighborhood(int radius, BorderHandling borderHandling) {
+	    this.radius = radius;
+	    this.borderHandling = borderHandling;
+	}
+
+	private void moveTo(int x, int y) {
+	    this.x = x;
+	    this.y = y;
+	    this.interior = x >= this.radius && y >= this.radius && x + this.radius < getColumnCount() && y + this.radius < getRowCount();
+	}
+
+	@Override
+	public int getX() {
+	    return this.x;
+	}
+
+	@Override
+	public int getY() {
+	    return this.y;
+	}
+
+	@Override
+	public int getRadius() {
+	    return this.radius;
+	}
+
+	@Override
+	public T get(int dx, int dy) {
+	    if (this.interior) {
+		return getCellValue(this.x + dx, this.y + dy);
+	    }
+	    final int columnIndex = this.borderHandling.getColumnIndex(this.x + dx);
+	    final int rowIndex = this.borderHandling.getRowIndex(this.y + dy);
+	    if (columnIndex == BorderHandling.OUTSIDE || rowIndex == BorderHandling.OUTSIDE) {
+		return null;
+	    }
+	    return getCellValue(columnIndex, rowIndex);
+	}
+
+    }
+
+    private final class CellAdapter implements WritableValue<T> {
+
+	private final int x, y;
+
+	private CellAdapter(int x, int y) {
+	    this.x = x;
+	    this.y = y;
+	}
+
+	@Override
+	public T getValue() {
+	    return getCellValue(this.x, this.y);
+	}
+
+	@Override
+	public void setValue(T value) {
+	    setCellValue(this.x, this.y, value);
+	}
+
+    }
+
+}
@@ -0,0 +1,91 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table.basic;
+
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+import libSB.functionalInterface.IntBinaryToFloatFunction;
+import libSB.functionalInterface.primitives.operator.FloatUnaryOperator;
+
+/**
+ * Table of primitive float Values. The boxed Accessors of StaticTable are only provided as Bridge for generic Code.
+ * <p>
+ * As there is no FloatStream the primitive Streams widen the Values to double.
+ *
+ * @author Simon Berndt
+ */
+public interface StaticFloatTable extends StaticTable<Float> {
+
+    float getAsFloat(int x, int y);
+
+    void set(int x, int y, float value);
+
+    @Override
+    default Float getCellValue(int x, int y) {
+	return getAsFloat(x, y);
+    }
+
+    @Override
+    default void setCellValue(int x, int y, Float value) {
+	set(x, y, value);
+    }
+
+    default DoubleStream cellValuesAsDouble() {
+	return StreamSupport.doubleStream(TableSpliterators.ofDouble(getColumnCount(), getRowCount(), this::getAsFloat), false);
+    }
+
+    default DoubleStream rowAsDouble(int y) {
+	return IntStream.range(0, getColumnCount()).mapToDouble((int x) -> getAsFloat(x, y));
+    }
+
+    default DoubleStream columnAsDouble(int x) {
+	return IntStream.range(0, getRowCount()).mapToDouble((int y) -> getAsFloat(x, y));
+    }
+
+    default void forEachCellAsFloat(FloatCellConsumer action) {
+	for (int y = 0; y < getRowCount(); y++) {
+	    for (int x = 0; x < getColumnCount(); x++) {
+		action.accept(x, y, getAsFloat(x, y));
+	    }
+	}
+    }
+
+    default void replaceAllAsFloat(IntBinaryToFloatFunction function) {
+	for (int y = 0; y < getRowCount(); y++) {
+	    for (int x = 0; x < getColumnCount(); x++) {
+		set(x, y, function.applyAsFloat(x, y));
+	    }
+	}
+    }
+
+    default void transformAsFloat(FloatUnaryOperator operator) {
+	for (int y = 0; y < getRowCount(); y++) {
+	    for (int x = 0; x < getColumnCount(); x++) {
+		set(x, y, operator.applyAsFloat(getAsFloat(x, y)));
+	    }
+	}
+    }
+
+}
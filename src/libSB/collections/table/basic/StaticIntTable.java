@@ -0,0 +1,88 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table.basic;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Table of primitive int Values. The boxed Accessors of StaticTable are only provided as Bridge for generic Code.
+ *
+ * @author Simon Berndt
+ */
+public interface StaticIntTable extends StaticTable<Integer> {
+
+    int getAsInt(int x, int y);
+
+    void set(int x, int y, int value);
+
+    @Override
+    default Integer getCellValue(int x, int y) {
+	return getAsInt(x, y);
+    }
+
+    @Override
+    default void setCellValue(int x, int y, Integer value) {
+	set(x, y, value);
+    }
+
+    default IntStream cellValuesAsInt() {
+	return StreamSupport.intStream(TableSpliterators.ofInt(getColumnCount(), getRowCount(), this::getAsInt), false);
+    }
+
+    default IntStream rowAsInt(int y) {
+	return IntStream.range(0, getColumnCount()).map((int x) -> getAsInt(x, y));
+    }
+
+    default IntStream columnAsInt(int x) {
+	return IntStream.range(0, getRowCount()).map((int y) -> getAsInt(x, y));
+    }
+
+    default void forEachCellAsInt(IntCellConsumer action) {
+	for (int y = 0; y < getRowCount(); y++) {
+	    for (int x = 0; x < getColumnCount(); x++) {
+		action.accept(x, y, getAsInt(x, y));
+	    }
+	}
+    }
+
+    default void replaceAllAsInt(IntBinaryOperator function) {
+	for (int y = 0; y < getRowCount(); y++) {
+	    for (int x = 0; x < getColumnCount(); x++) {
+		set(x, y, function.applyAsInt(x, y));
+	    }
+	}
+    }
+
+    default void transformAsInt(IntUnaryOperator operator) {
+	for (int y = 0; y < getRowCount(); y++) {
+	    for (int x = 0; x < getColumnCount(); x++) {
+		set(x, y, operator.applyAsInt(getAsInt(x, y)));
+	    }
+	}
+    }
+
+}
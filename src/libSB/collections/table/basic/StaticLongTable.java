@@ -0,0 +1,89 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table.basic;
+
+import java.util.function.LongUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+import libSB.functionalInterface.IntBinaryToLongFunction;
+
+/**
+ * Table of primitive long Values. The boxed Accessors of StaticTable are only provided as Bridge for generic Code.
+ *
+ * @author Simon Berndt
+ */
+public interface StaticLongTable extends StaticTable<Long> {
+
+    long getAsLong(int x, int y);
+
+    void set(int x, int y, long value);
+
+    @Override
+    default Long getCellValue(int x, int y) {
+	return getAsLong(x, y);
+    }
+
+    @Override
+    default void setCellValue(int x, int y, Long value) {
+	set(x, y, value);
+    }
+
+    default LongStream cellValuesAsLong() {
+	return StreamSupport.longStream(TableSpliterators.ofLong(getColumnCount(), getRowCount(), this::getAsLong), false);
+    }
+
+    default LongStream rowAsLong(int y) {
+	return IntStream.range(0, getColumnCount()).mapToLong((int x) -> getAsLong(x, y));
+    }
+
+    default LongStream columnAsLong(int x) {
+	return IntStream.range(0, getRowCount()).mapToLong((int y) -> getAsLong(x, y));
+    }
+
+    default void forEachCellAsLong(LongCellConsumer action) {
+	for (int y = 0; y < getRowCount(); y++) {
+	    for (int x = 0; x < getColumnCount(); x++) {
+		action.accept(x, y, getAsLong(x, y));
+	    }
+	}
+    }
+
+    default void replaceAllAsLong(IntBinaryToLongFunction function) {
+	for (int y = 0; y < getRowCount(); y++) {
+	    for (int x = 0; x < getColumnCount(); x++) {
+		set(x, y, function.applyAsLong(x, y));
+	    }
+	}
+    }
+
+    default void transformAsLong(LongUnaryOperator operator) {
+	for (int y = 0; y < getRowCount(); y++) {
+	    for (int x = 0; x < getColumnCount(); x++) {
+		set(x, y, operator.applyAsLong(getAsLong(x, y)));
+	    }
+	}
+    }
+
+}
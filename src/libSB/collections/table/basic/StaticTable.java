@@ -23,9 +23,13 @@
  */
 package libSB.collections.table.basic;
 
+import java.util.function.UnaryOperator;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javafx.beans.value.WritableValue;
+import libSB.functionalInterface.IntBiFunction;
 
 public interface StaticTable<T> {
 
@@ -51,6 +55,46 @@ public interface StaticTable<T> {
 	return getCellCount() < 1;
     }
 
+    /**
+     * Visits all Cells in row-major Order without allocating anything per Cell.
+     */
+    default void forEachCell(CellConsumer<? super T> action) {
+	for (int y = 0; y < getRowCount(); y++) {
+	    for (int x = 0; x < getColumnCount(); x++) {
+		action.accept(x, y, getCellValue(x, y));
+	    }
+	}
+    }
+
+    /**
+     * Replaces the Value of each Cell by the Result of the Function applied to the Cells Position.
+     */
+    default void replaceAll(IntBiFunction<? extends T> function) {
+	for (int y = 0; y < getRowCount(); y++) {
+	    for (int x = 0; x < getColumnCount(); x++) {
+		setCellValue(x, y, function.apply(x, y));
+	    }
+	}
+    }
+
+    /**
+     * Replaces the Value of each Cell by the Result of the Operator applied to it.
+     */
+    default void transform(UnaryOperator<T> operator) {
+	for (int y = 0; y < getRowCount(); y++) {
+	    for (int x = 0; x < getColumnCount(); x++) {
+		setCellValue(x, y, operator.apply(getCellValue(x, y)));
+	    }
+	}
+    }
+
+    /**
+     * Positions of all Cells in row-major Order, packed by {@link TableSpliterators#pack(int, int)}.
+     */
+    default LongStream cellPositions() {
+	return StreamSupport.longStream(TableSpliterators.positions(getColumnCount(), getRowCount()), false);
+    }
+
     public static <T> String toString(StaticTable<T> table) {
 	final StringBuilder str = new StringBuilder();
 	IntStream.range(0, table.getRowCount()).forEach((int y) -> {
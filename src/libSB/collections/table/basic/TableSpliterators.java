@@ -0,0 +1,330 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table.basic;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import libSB.functionalInterface.IntBiFunction;
+import libSB.functionalInterface.IntBinaryToDoubleFunction;
+import libSB.functionalInterface.IntBinaryToLongFunction;
+
+/**
+ * Spliterators over the Cells of a Table in row-major Order.
+ * <p>
+ * All of them know their exact Size and split evenly - preferably along Row-Borders, so parallel Streams over Tables scale with the Number of Cores.
+ *
+ * @author Simon Berndt
+ */
+public final class TableSpliterators {
+
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+
+    private TableSpliterators() {
+    }
+
+    public static <T> Spliterator<T> of(int width, int height, IntBiFunction<? extends T> cellAccess) {
+	return new CellSpliterator<>(width, 0, width * height, Objects.requireNonNull(cellAccess));
+    }
+
+    public static Spliterator.OfInt ofInt(int width, int height, IntBinaryOperator cellAccess) {
+	return new IntCellSpliterator(width, 0, width * height, Objects.requireNonNull(cellAccess));
+    }
+
+    public static Spliterator.OfLong ofLong(int width, int height, IntBinaryToLongFunction cellAccess) {
+	return new LongCellSpliterator(width, 0, width * height, Objects.requireNonNull(cellAccess));
+    }
+
+    public static Spliterator.OfDouble ofDouble(int width, int height, IntBinaryToDoubleFunction cellAccess) {
+	return new DoubleCellSpliterator(width, 0, width * height, Objects.requireNonNull(cellAccess));
+    }
+
+    /**
+     * Spliterator over the Positions of all Cells packed by {@link #pack(int, int)}.
+     */
+    public static Spliterator.OfLong positions(int width, int height) {
+	return new LongCellSpliterator(width, 0, width * height, TableSpliterators::pack);
+    }
+
+    /**
+     * Packs a Cell-Position into a single long, which unlike an Object can be passed around without Allocation.
+     */
+    public static long pack(int x, int y) {
+	return ((long) y << 32) | (x & 0xFFFFFFFFL);
+    }
+
+    public static int unpackX(long position) {
+	return (int) position;
+    }
+
+    public static int unpackY(long position) {
+	return (int) (position >>> 32);
+    }
+
+    private static abstract class AbstractCellSpliterator {
+
+	protected final int width;
+	// linear Index of the next Cell
+	protected int index;
+	protected final int fence;
+
+	protected AbstractCellSpliterator(int width, int origin, int fence) {
+	    this.width = width;
+	    this.index = origin;
+	    this.fence = fence;
+	}
+
+	/**
+	 * Determines where to split the remaining Cells - at the Row-Border closest to the Middle, or in the Middle if the Range does not span a Row-Border.
+	 * Returns -1 if the Range is too small to be split.
+	 */
+	protected final int splitIndex() {
+	    final int remaining = this.fence - this.index;
+	    if (remaining < 2) {
+		return -1;
+	    }
+	    final int middle = this.index + (remaining >>> 1);
+	    final int rowBorder = middle - middle % this.width;
+	    return rowBorder > this.index ? rowBorder : middle;
+	}
+
+	public final long estimateSize() {
+	    return this.fence - this.index;
+	}
+
+	public final int characteristics() {
+	    return CHARACTERISTICS;
+	}
+
+    }
+
+    private static final class CellSpliterator<T> extends AbstractCellSpliterator implements Spliterator<T> {
+
+	private final IntBiFunction<? extends T> cellAccess;
+
+	private CellSpliterator(int width, int origin, int fence, IntBiFunction<? extends T> cellAccess) {
+	    super(width, origin, fence);
+	    this.cellAccess = cellAccess;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+	    if (this.index < this.fence) {
+		final int x = this.index % this.width;
+		final int y = this.index / this.width;
+		this.index++;
+		action.accept(this.cellAccess.apply(x, y));
+		return true;
+	    }
+	    return false;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+	    if (this.index >= this.fence) {
+		return;
+	    }
+	    int x = this.index % this.width;
+	    int y = this.index / this.width;
+	    for (int i = this.index; i < this.fence; i++) {
+		action.accept(this.cellAccess.apply(x, y));
+		if (++x == this.width) {
+		    x = 0;
+		    y++;
+		}
+	    }
+	    this.index = this.fence;
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+	    final int split = splitIndex();
+	    if (split < 0) {
+		return null;
+	    }
+	    final Spliterator<T> prefix = new CellSpliterator<>(this.width, this.index, split, this.cellAccess);
+	    this.index = split;
+	    return prefix;
+	}
+
+    }
+
+    private static final class IntCellSpliterator extends AbstractCellSpliterator implements Spliterator.OfInt {
+
+	private final IntBinaryOperator cellAccess;
+
+	private IntCellSpliterator(int width, int origin, int fence, IntBinaryOperator cellAccess) {
+	    super(width, origin, fence);
+	    this.cellAccess = cellAccess;
+	}
+
+	@Override
+	public boolean tryAdvance(IntConsumer action) {
+	    if (this.index < this.fence) {
+		final int x = this.index % this.width;
+		final int y = this.index / this.width;
+		this.index++;
+		action.accept(this.cellAccess.applyAsInt(x, y));
+		return true;
+	    }
+	    return false;
+	}
+
+	@Override
+	public void forEachRemaining(IntConsumer action) {
+	    if (this.index >= this.fence) {
+		return;
+	    }
+	    int x = this.index % this.width;
+	    int y = this.index / this.width;
+	    for (int i = this.index; i < this.fence; i++) {
+		action.accept(this.cellAccess.applyAsInt(x, y));
+		if (++x == this.width) {
+		    x = 0;
+		    y++;
+		}
+	    }
+	    this.index = this.fence;
+	}
+
+	@Override
+	public Spliterator.OfInt trySplit() {
+	    final int split = splitIndex();
+	    if (split < 0) {
+		return null;
+	    }
+	    final Spliterator.OfInt prefix = new IntCellSpliterator(this.width, this.index, split, this.cellAccess);
+	    this.index = split;
+	    return prefix;
+	}
+
+    }
+
+    private static final class LongCellSpliterator extends AbstractCellSpliterator implements Spliterator.OfLong {
+
+	private final IntBinaryToLongFunction cellAccess;
+
+	private LongCellSpliterator(int width, int origin, int fence, IntBinaryToLongFunction cellAccess) {
+	    super(width, origin, fence);
+	    this.cellAccess = cellAccess;
+	}
+
+	@Override
+	public boolean tryAdvance(LongConsumer action) {
+	    if (this.index < this.fence) {
+		final int x = this.index % this.width;
+		final int y = this.index / this.width;
+		this.index++;
+		action.accept(this.cellAccess.applyAsLong(x, y));
+		return true;
+	    }
+	    return false;
+	}
+
+	@Override
+	public void forEachRemaining(LongConsumer action) {
+	    if (this.index >= this.fence) {
+		return;
+	    }
+	    int x = this.index % this.width;
+	    int y = this.index / this.width;
+	    for (int i = this.index; i < this.fence; i++) {
+		action.accept(this.cellAccess.applyAsLong(x, y));
+		if (++x == this.width) {
+		    x = 0;
+		    y++;
+		}
+	    }
+	    this.index = this.fence;
+	}
+
+	@Override
+	public Spliterator.OfLong trySplit() {
+	    final int split = splitIndex();
+	    if (split < 0) {
+		return null;
+	    }
+	    final Spliterator.OfLong prefix = new LongCellSpliterator(this.width, this.index, split, this.cellAccess);
+	    this.index = split;
+	    return prefix;
+	}
+
+    }
+
+    private static final class DoubleCellSpliterator extends AbstractCellSpliterator implements Spliterator.OfDouble {
+
+	private final IntBinaryToDoubleFunction cellAccess;
+
+	private DoubleCellSpliterator(int width, int origin, int fence, IntBinaryToDoubleFunction cellAccess) {
+	    super(width, origin, fence);
+	    this.cellAccess = cellAccess;
+	}
+
+	@Override
+	public boolean tryAdvance(DoubleConsumer action) {
+	    if (this.index < this.fence) {
+		final int x = this.index % this.width;
+		final int y = this.index / this.width;
+		this.index++;
+		action.accept(this.cellAccess.applyAsDouble(x, y));
+		return true;
+	    }
+	    return false;
+	}
+
+	@Override
+	public void forEachRemaining(DoubleConsumer action) {
+	    if (this.index >= this.fence) {
+		return;
+	    }
+	    int x = this.index % this.width;
+	    int y = this.index / this.width;
+	    for (int i = this.index; i < this.fence; i++) {
+		action.accept(this.cellAccess.applyAsDouble(x, y));
+		if (++x == this.width) {
+		    x = 0;
+		    y++;
+		}
+	    }
+	    this.index = this.fence;
+	}
+
+	@Override
+	public Spliterator.OfDouble trySplit() {
+	    final int split = splitIndex();
+	    if (split < 0) {
+		return null;
+	    }
+	    final Spliterator.OfDouble prefix = new DoubleCellSpliterator(this.width, this.index, split, this.cellAccess);
+	    this.index = split;
+	    return prefix;
+	}
+
+    }
+
+}
@@ -0,0 +1,89 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table.borderHandling;
+
+/**
+ * Common Base of the BorderHandlings over an Index-Range fixed at Construction. Indices inside the Range pass through,
+ * only Indices beyond the Border reach {@link #mapBeyond(int, int, int)}.
+ *
+ * @author Simon Berndt
+ */
+abstract class AbstractFixedBorderHandling implements BorderHandling {
+
+    private final int minIndexX;
+    private final int minIndexY;
+    private final int maxIndexX;
+    private final int maxIndexY;
+
+    AbstractFixedBorderHandling(int width, int height) {
+	this(0, 0, width - 1, height - 1);
+    }
+
+    AbstractFixedBorderHandling(int minIndexX, int minIndexY, int maxIndexX, int maxIndexY) {
+	if (maxIndexX < minIndexX || maxIndexY < minIndexY) {
+	    throw new IllegalArgumentException("Empty Index-Range");
+	}
+	this.minIndexX = minIndexX;
+	this.minIndexY = minIndexY;
+	this.maxIndexX = maxIndexX;
+	this.maxIndexY = maxIndexY;
+    }
+
+    /**
+     * Maps an Index outside of [min, max].
+     */
+    abstract int mapBeyond(int index, int min, int max);
+
+    private int map(int index, int min, int max) {
+	if (index >= min && index <= max) {
+	    return index;
+	}
+	return mapBeyond(index, min, max);
+    }
+
+    @Override
+    public final int getRowIndex(int orgRowIndex) {
+	return map(orgRowIndex, this.minIndexY, this.maxIndexY);
+    }
+
+    @Override
+    public final int getColumnIndex(int orgColumnIndex) {
+	return map(orgColumnIndex, this.minIndexX, this.maxIndexX);
+    }
+
+    @Override
+    public final void mapRowIndices(int[] indices, int fromIndex, int toIndex) {
+	for (int i = fromIndex; i < toIndex; i++) {
+	    indices[i] = map(indices[i], this.minIndexY, this.maxIndexY);
+	}
+    }
+
+    @Override
+    public final void mapColumnIndices(int[] indices, int fromIndex, int toIndex) {
+	for (int i = fromIndex; i < toIndex; i++) {
+	    indices[i] = map(indices[i], this.minIndexX, this.maxIndexX);
+	}
+    }
+
+}
@@ -29,8 +29,31 @@ package libSB.collections.table.borderHandling;
  */
 public interface BorderHandling {
 
+    /**
+     * Index returned for Positions which do not map onto any Cell. Accessors substitute a constant Value for such Positions.
+     */
+    int OUTSIDE = Integer.MIN_VALUE;
+
     int getRowIndex(int orgRowIndex);
 
     int getColumnIndex(int orgColumnIndex);
 
+    /**
+     * Remaps the Row-Indices in the given Range of the Array in place.
+     */
+    default void mapRowIndices(int[] indices, int fromIndex, int toIndex) {
+	for (int i = fromIndex; i < toIndex; i++) {
+	    indices[i] = getRowIndex(indices[i]);
+	}
+    }
+
+    /**
+     * Remaps the Column-Indices in the given Range of the Array in place.
+     */
+    default void mapColumnIndices(int[] indices, int fromIndex, int toIndex) {
+	for (int i = fromIndex; i < toIndex; i++) {
+	    indices[i] = getColumnIndex(indices[i]);
+	}
+    }
+
 }
@@ -35,15 +35,49 @@ final public class BorderHandlingTableAccess<T> implements IntBiFunction<Writabl
 
     private final StaticTable<T> wrappedTable;
     private final BorderHandling borderHandler;
+    private final WritableValue<T> outsideCell;
 
     public BorderHandlingTableAccess(StaticTable<T> wrappedTable, BorderHandling borderHandler) {
+	this(wrappedTable, borderHandler, null);
+    }
+
+    /**
+     * @param outsideValue Value of all Positions the BorderHandling maps to {@link BorderHandling#OUTSIDE}
+     */
+    public BorderHandlingTableAccess(StaticTable<T> wrappedTable, BorderHandling borderHandler, T outsideValue) {
 	this.wrappedTable = wrappedTable;
 	this.borderHandler = borderHandler;
+	this.outsideCell = new OutsideCell<>(outsideValue);
     }
 
     @Override
     public WritableValue<T> apply(int x, int y) {
-	return this.wrappedTable.getCell(this.borderHandler.getColumnIndex(x), this.borderHandler.getRowIndex(y));
+	final int columnIndex = this.borderHandler.getColumnIndex(x);
+	final int rowIndex = this.borderHandler.getRowIndex(y);
+	if (columnIndex == BorderHandling.OUTSIDE || rowIndex == BorderHandling.OUTSIDE) {
+	    return this.outsideCell;
+	}
+	return this.wrappedTable.getCell(columnIndex, rowIndex);
+    }
+
+    private static final class OutsideCell<T> implements WritableValue<T> {
+
+	private final T value;
+
+	private OutsideCell(T value) {
+	    this.value = value;
+	}
+
+	@Override
+	public T getValue() {
+	    return this.value;
+	}
+
+	@Override
+	public void setValue(T value) {
+	    throw new UnsupportedOperationException("Cell is outside of the Table");
+	}
+
     }
 
 }
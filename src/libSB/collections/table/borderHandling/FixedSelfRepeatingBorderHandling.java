@@ -0,0 +1,48 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table.borderHandling;
+
+/**
+ * Clamps Indices to the Border, so the outermost Cells repeat themselves: {@code ...aaa|abcd|ddd...}
+ * <p>
+ * Every Index beyond a Border takes the Index of that Border-Cell.
+ *
+ * @author Simon Berndt
+ */
+final public class FixedSelfRepeatingBorderHandling extends AbstractFixedBorderHandling {
+
+    public FixedSelfRepeatingBorderHandling(int width, int height) {
+	super(width, height);
+    }
+
+    public FixedSelfRepeatingBorderHandling(int minIndexX, int minIndexY, int maxIndexX, int maxIndexY) {
+	super(minIndexX, minIndexY, maxIndexX, maxIndexY);
+    }
+
+    @Override
+    int mapBeyond(int index, int min, int max) {
+	return index < min ? min : max;
+    }
+
+}
@@ -0,0 +1,51 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table.borderHandling;
+
+/**
+ * Mirrors Indices at the Border including the Border-Cell itself: {@code ...cba|abcd|dcb...}
+ * <p>
+ * Beyond a Border the Range repeats in reverse Order, so the Border-Cell appears twice in a Row.
+ *
+ * @author Simon Berndt
+ */
+final public class MirrorBorderHandling extends AbstractFixedBorderHandling {
+
+    public MirrorBorderHandling(int width, int height) {
+	super(width, height);
+    }
+
+    public MirrorBorderHandling(int minIndexX, int minIndexY, int maxIndexX, int maxIndexY) {
+	super(minIndexX, minIndexY, maxIndexX, maxIndexY);
+    }
+
+    @Override
+    int mapBeyond(int index, int min, int max) {
+	final long length = (long) max - min + 1;
+	final long period = 2 * length;
+	final long position = Math.floorMod((long) index - min, period);
+	return min + (int) (position < length ? position : period - 1 - position);
+    }
+
+}
@@ -43,36 +43,22 @@ final public class TorusBorderHandling implements BorderHandling {
 	this.maxIndexY = maxIndexY;
     }
 
-    private static int getLength(int min, int max) {
-	return max - min + 1;
+    private static long getLength(int min, int max) {
+	return (long) max - min + 1;
     }
 
     @Override
     public int getRowIndex(int orgRowIndex) {
 	final int minY = this.minIndexY.getAsInt();
 	final int maxY = this.maxIndexY.getAsInt();
-	final int length = getLength(minY, maxY);
-	while (orgRowIndex < minY) {
-	    orgRowIndex += length;
-	}
-	while (orgRowIndex > maxY) {
-	    orgRowIndex -= length;
-	}
-	return orgRowIndex;
+	return minY + (int) Math.floorMod((long) orgRowIndex - minY, getLength(minY, maxY));
     }
 
     @Override
     public int getColumnIndex(int orgColumnIndex) {
 	final int minX = this.minIndexX.getAsInt();
 	final int maxX = this.maxIndexX.getAsInt();
-	final int length = getLength(minX, maxX);
-	while (orgColumnIndex < minX) {
-	    orgColumnIndex += length;
-	}
-	while (orgColumnIndex > maxX) {
-	    orgColumnIndex -= length;
-	}
-	return orgColumnIndex;
+	return minX + (int) Math.floorMod((long) orgColumnIndex - minX, getLength(minX, maxX));
     }
 
 }
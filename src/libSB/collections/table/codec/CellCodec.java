@@ -0,0 +1,44 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes Cell-Values into a fixed Number of Bytes.
+ * <p>
+ * Implementations must only use absolute Access-Methods of the given Buffer and must not touch more than {@link #getCellSize()} Bytes starting at the given
+ * Offset. Composite Values (Records) are encoded by writing their Fields one after another.
+ *
+ * @author Simon Berndt
+ */
+public interface CellCodec<T> {
+
+    int getCellSize();
+
+    T read(ByteBuffer buffer, int offset);
+
+    void write(ByteBuffer buffer, int offset, T value);
+
+}
@@ -0,0 +1,174 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Codecs for the boxed primitive Types. None of them supports null-Values.
+ *
+ * @author Simon Berndt
+ */
+public final class CellCodecs {
+
+    public static final CellCodec<Boolean> BOOLEAN = new CellCodec<Boolean>() {
+        @Override
+        public int getCellSize() {
+            return Byte.BYTES;
+        }
+
+        @Override
+        public Boolean read(ByteBuffer buffer, int offset) {
+            return buffer.get(offset) != 0;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Boolean value) {
+            buffer.put(offset, value ? (byte) 1 : (byte) 0);
+        }
+    };
+
+    public static final CellCodec<Byte> BYTE = new CellCodec<Byte>() {
+        @Override
+        public int getCellSize() {
+            return Byte.BYTES;
+        }
+
+        @Override
+        public Byte read(ByteBuffer buffer, int offset) {
+            return buffer.get(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Byte value) {
+            buffer.put(offset, value);
+        }
+    };
+
+    public static final CellCodec<Short> SHORT = new CellCodec<Short>() {
+        @Override
+        public int getCellSize() {
+            return Short.BYTES;
+        }
+
+        @Override
+        public Short read(ByteBuffer buffer, int offset) {
+            return buffer.getShort(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Short value) {
+            buffer.putShort(offset, value);
+        }
+    };
+
+    public static final CellCodec<Character> CHARACTER = new CellCodec<Character>() {
+        @Override
+        public int getCellSize() {
+            return Character.BYTES;
+        }
+
+        @Override
+        public Character read(ByteBuffer buffer, int offset) {
+            return buffer.getChar(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Character value) {
+            buffer.putChar(offset, value);
+        }
+    };
+
+    public static final CellCodec<Integer> INTEGER = new CellCodec<Integer>() {
+        @Override
+        public int getCellSize() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer value) {
+            buffer.putInt(offset, value);
+        }
+    };
+
+    public static final CellCodec<Long> LONG = new CellCodec<Long>() {
+        @Override
+        public int getCellSize() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long value) {
+            buffer.putLong(offset, value);
+        }
+    };
+
+    public static final CellCodec<Float> FLOAT = new CellCodec<Float>() {
+        @Override
+        public int getCellSize() {
+            return Float.BYTES;
+        }
+
+        @Override
+        public Float read(ByteBuffer buffer, int offset) {
+            return buffer.getFloat(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Float value) {
+            buffer.putFloat(offset, value);
+        }
+    };
+
+    public static final CellCodec<Double> DOUBLE = new CellCodec<Double>() {
+        @Override
+        public int getCellSize() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double value) {
+            buffer.putDouble(offset, value);
+        }
+    };
+
+    private CellCodecs() {
+    }
+
+}
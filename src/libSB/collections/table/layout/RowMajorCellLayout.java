@@ -0,0 +1,64 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table.layout;
+
+/**
+ * Classic Layout storing one Row after another.
+ *
+ * @author Simon Berndt
+ */
+final public class RowMajorCellLayout implements CellLayout {
+
+    private final int width;
+    private final int height;
+
+    public RowMajorCellLayout(int width, int height) {
+        if (width < 0 || height < 0) {
+            throw new IllegalArgumentException("Negative Dimension");
+        }
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return this.width;
+    }
+
+    @Override
+    public int getRowCount() {
+        return this.height;
+    }
+
+    @Override
+    public long getCellCapacity() {
+        return (long) this.width * this.height;
+    }
+
+    @Override
+    public long linearize(int x, int y) {
+        return (long) this.width * y + x;
+    }
+
+}
@@ -0,0 +1,90 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table.layout;
+
+/**
+ * Layout storing the Table in rectangular Tiles, so Cells which are close in both Dimensions are close in Storage as well.
+ * <p>
+ * Tiles are ordered row-major and each Tile is stored row-major itself. The Table is padded to a whole Number of Tiles.
+ *
+ * @author Simon Berndt
+ */
+final public class TiledCellLayout implements CellLayout {
+
+    private final int width;
+    private final int height;
+    private final int tileWidth;
+    private final int tileHeight;
+    private final int tilesPerRow;
+    private final int tilesPerColumn;
+
+    public TiledCellLayout(int width, int height, int tileWidth, int tileHeight) {
+        if (width < 0 || height < 0) {
+            throw new IllegalArgumentException("Negative Dimension");
+        }
+        if (tileWidth < 1 || tileHeight < 1) {
+            throw new IllegalArgumentException("Tile-Dimension must be positive");
+        }
+        this.width = width;
+        this.height = height;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        this.tilesPerRow = (width + tileWidth - 1) / tileWidth;
+        this.tilesPerColumn = (height + tileHeight - 1) / tileHeight;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return this.width;
+    }
+
+    @Override
+    public int getRowCount() {
+        return this.height;
+    }
+
+    public int getTileWidth() {
+        return this.tileWidth;
+    }
+
+    public int getTileHeight() {
+        return this.tileHeight;
+    }
+
+    @Override
+    public long getCellCapacity() {
+        return (long) this.tilesPerRow * this.tilesPerColumn * this.tileWidth * this.tileHeight;
+    }
+
+    @Override
+    public long linearize(int x, int y) {
+        final int tileX = x / this.tileWidth;
+        final int tileY = y / this.tileHeight;
+        final int innerX = x - tileX * this.tileWidth;
+        final int innerY = y - tileY * this.tileHeight;
+        final long tileIndex = (long) this.tilesPerRow * tileY + tileX;
+        return tileIndex * this.tileWidth * this.tileHeight + (long) this.tileWidth * innerY + innerX;
+    }
+
+}
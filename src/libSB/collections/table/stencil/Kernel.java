@@ -0,0 +1,102 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table.stencil;
+
+import java.util.Arrays;
+
+/**
+ * Immutable Weight-Matrix of odd Width and Height centered on the processed Cell.
+ *
+ * @author Simon Berndt
+ */
+public final class Kernel {
+
+    // row-major
+    final double[] weights;
+    final int width;
+    final int height;
+
+    public Kernel(int width, int height, double... weights) {
+	if (width < 1 || height < 1 || width % 2 == 0 || height % 2 == 0) {
+	    throw new IllegalArgumentException("Kernel-Dimension must be odd and positive");
+	}
+	if (weights.length != width * height) {
+	    throw new IllegalArgumentException("Expected " + width * height + " Weights but got " + weights.length);
+	}
+	this.width = width;
+	this.height = height;
+	this.weights = weights.clone();
+    }
+
+    /**
+     * Kernel computing the Mean of a quadratic Neighborhood.
+     */
+    public static Kernel box(int radius) {
+	final int size = 2 * radius + 1;
+	final double[] weights = new double[size * size];
+	Arrays.fill(weights, 1.0 / weights.length);
+	return new Kernel(size, size, weights);
+    }
+
+    /**
+     * Normalized Gaussian-Kernel of a quadratic Neighborhood.
+     */
+    public static Kernel gaussian(int radius, double sigma) {
+	final int size = 2 * radius + 1;
+	final double[] weights = new double[size * size];
+	double sum = 0.0;
+	for (int dy = -radius; dy <= radius; dy++) {
+	    for (int dx = -radius; dx <= radius; dx++) {
+		final double weight = Math.exp(-(dx * dx + dy * dy) / (2.0 * sigma * sigma));
+		weights[(dy + radius) * size + dx + radius] = weight;
+		sum += weight;
+	    }
+	}
+	for (int i = 0; i < weights.length; i++) {
+	    weights[i] /= sum;
+	}
+	return new Kernel(size, size, weights);
+    }
+
+    public int getWidth() {
+	return this.width;
+    }
+
+    public int getHeight() {
+	return this.height;
+    }
+
+    public int getRadiusX() {
+	return this.width / 2;
+    }
+
+    public int getRadiusY() {
+	return this.height / 2;
+    }
+
+    public double getWeight(int dx, int dy) {
+	return this.weights[(dy + getRadiusY()) * this.width + dx + getRadiusX()];
+    }
+
+}
@@ -0,0 +1,338 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.collections.table.stencil;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import libSB.collections.table.basic.StaticDoubleTable;
+import libSB.collections.table.basic.StaticTable;
+import libSB.collections.table.borderHandling.BorderHandling;
+import libSB.collections.table.neighborhood.Neighborhood;
+
+/**
+ * Applies Kernels or arbitrary Neighborhood-Reductions to every Cell of a Table, writing the Results into a second Table.
+ * <p>
+ * The Work is split into Bands of Rows processed in parallel. Within a Band only Cells whose Neighborhood reaches over the Table-Border consult the
+ * BorderHandling, all interior Cells read their Neighbors directly.
+ *
+ * @author Simon Berndt
+ */
+public final class StencilEngine {
+
+    // Bands per Worker-Thread - more Bands balance better at the Cost of Scheduling-Overhead
+    private static final int BANDS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+
+    public StencilEngine() {
+	this(ForkJoinPool.commonPool());
+    }
+
+    public StencilEngine(ForkJoinPool pool) {
+	this.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * Writes the Convolution of the Source with the Kernel into the Target. Positions mapped to {@link BorderHandling#OUTSIDE} count as Zero.
+     * <p>
+     * The Kernel is flipped: {@code kernel.getWeight(dx, dy)} weighs the Source-Cell at {@code (x - dx, y - dy)}.
+     */
+    public void convolve(StaticDoubleTable source, Kernel kernel, BorderHandling borderHandling, StaticDoubleTable target) {
+	convolve(source, kernel, borderHandling, 0.0, target);
+    }
+
+    /**
+     * Writes the Convolution of the Source with the Kernel into the Target. Positions mapped to {@link BorderHandling#OUTSIDE} count as the given
+     * Outside-Value.
+     * <p>
+     * The Kernel is flipped: {@code kernel.getWeight(dx, dy)} weighs the Source-Cell at {@code (x - dx, y - dy)}.
+     */
+    public void convolve(StaticDoubleTable source, Kernel kernel, BorderHandling borderHandling, double outsideValue, StaticDoubleTable target) {
+	checkTables(source, target);
+	final int width = source.getColumnCount();
+	final int height = source.getRowCount();
+	final int rx = kernel.getRadiusX();
+	final int ry = kernel.getRadiusY();
+	final double[] weights = kernel.weights;
+	// Convolution walks the row-major Weights backwards
+	final int lastWeight = weights.length - 1;
+	final int kernelWidth = kernel.width;
+	final int kernelHeight = kernel.height;
+
+	process(height, (int fromRow, int toRow) -> {
+	    final int[] rowIndices = new int[kernelHeight];
+	    final int[] columnIndices = new int[kernelWidth];
+	    for (int y = fromRow; y < toRow; y++) {
+		final boolean interiorRow = y >= ry && y + ry < height;
+		final int interiorFrom = interiorRow ? Math.min(rx, width) : width;
+		final int interiorTo = interiorRow ? Math.max(width - rx, interiorFrom) : width;
+
+		// interior
+		for (int x = interiorFrom; x < interiorTo; x++) {
+		    double sum = 0.0;
+		    int k = 0;
+		    for (int sy = y - ry; sy <= y + ry; sy++) {
+			for (int sx = x - rx; sx <= x + rx; sx++) {
+			    sum += weights[lastWeight - k++] * source.getAsDouble(sx, sy);
+			}
+		    }
+		    target.set(x, y, sum);
+		}
+
+		// border
+		for (int i = 0; i < kernelHeight; i++) {
+		    rowIndices[i] = y + i - ry;
+		}
+		borderHandling.mapRowIndices(rowIndices, 0, kernelHeight);
+		for (int x = 0; x < width; x++) {
+		    if (x == interiorFrom) {
+			x = interiorTo;
+			if (x >= width) {
+			    break;
+			}
+		    }
+		    for (int i = 0; i < kernelWidth; i++) {
+			columnIndices[i] = x + i - rx;
+		    }
+		    borderHandling.mapColumnIndices(columnIndices, 0, kernelWidth);
+		    double sum = 0.0;
+		    int k = 0;
+		    for (int i = 0; i < kernelHeight; i++) {
+			for (int j = 0; j < kernelWidth; j++) {
+			    final boolean outside = columnIndices[j] == BorderHandling.OUTSIDE || rowIndices[i] == BorderHandling.OUTSIDE;
+			    sum += weights[lastWeight - k++] * (outside ? outsideValue : source.getAsDouble(columnIndices[j], rowIndices[i]));
+			}
+		    }
+		    target.set(x, y, sum);
+		}
+	    }
+	});
+    }
+
+    /**
+     * Writes the Reduction of each Cells quadratic Neighborhood into the Target. Positions mapped to {@link BorderHandling#OUTSIDE} read as null. The
+     * Neighborhood passed to the Reducer is a Flyweight and must not be retained.
+     */
+    public <T, R> void apply(StaticTable<T> source, int radius, Function<? super Neighborhood<T>, ? extends R> reducer, BorderHandling borderHandling, StaticTable<R> target) {
+	apply(source, radius, reducer, borderHandling, null, target);
+    }
+
+    /**
+     * Writes the Reduction of each Cells quadratic Neighborhood into the Target. Positions mapped to {@link BorderHandling#OUTSIDE} read as the given
+     * Outside-Value. The Neighborhood passed to the Reducer is a Flyweight and must not be retained.
+     */
+    public <T, R> void apply(StaticTable<T> source, int radius, Function<? super Neighborhood<T>, ? extends R> reducer, BorderHandling borderHandling, T outsideValue, StaticTable<R> target) {
+	checkTables(source, target);
+	if (radius < 0) {
+	    throw new IllegalArgumentException("Negative Radius");
+	}
+	final int width = source.getColumnCount();
+	final int height = source.getRowCount();
+
+	process(height, (int fromRow, int toRow) -> {
+	    final InteriorNeighborhood<T> interior = new InteriorNeighborhood<>(source, radius);
+	    final BorderNeighborhood<T> border = new BorderNeighborhood<>(source, radius, borderHandling, outsideValue);
+	    for (int y = fromRow; y < toRow; y++) {
+		final boolean interiorRow = y >= radius && y + radius < height;
+		final int interiorFrom = interiorRow ? Math.min(radius, width) : width;
+		final int interiorTo = interiorRow ? Math.max(width - radius, interiorFrom) : width;
+
+		// interior
+		for (int x = interiorFrom; x < interiorTo; x++) {
+		    interior.moveTo(x, y);
+		    target.setCellValue(x, y, reducer.apply(interior));
+		}
+
+		// border
+		for (int x = 0; x < width; x++) {
+		    if (x == interiorFrom) {
+			x = interiorTo;
+			if (x >= width) {
+			    break;
+			}
+		    }
+		    border.moveTo(x, y);
+		    target.setCellValue(x, y, reducer.apply(border));
+		}
+	    }
+	});
+    }
+
+    private static void checkTables(StaticTable<?> source, StaticTable<?> target) {
+	if (source == target) {
+	    throw new IllegalArgumentException("Source and Target must be different Tables");
+	}
+	if (source.getColumnCount() != target.getColumnCount() || source.getRowCount() != target.getRowCount()) {
+	    throw new IllegalArgumentException("Source and Target differ in Dimension");
+	}
+    }
+
+    private void process(int rowCount, RowBandProcessor processor) {
+	if (rowCount < 1) {
+	    return;
+	}
+	final int bandCount = this.pool.getParallelism() * BANDS_PER_THREAD;
+	final int bandHeight = Math.max(1, (rowCount + bandCount - 1) / bandCount);
+	this.pool.invoke(new RowBandTask(processor, 0, rowCount, bandHeight));
+    }
+
+    @FunctionalInterface
+    private interface RowBandProcessor {
+
+	void process(int fromRow, int toRow);
+
+    }
+
+    private static final class RowBandTask extends RecursiveAction {
+
+	private static final long serialVersionUID = -2826476361830744373L;
+
+	transient private final RowBandProcessor processor;
+	private final int fromRow;
+	private final int toRow;
+	private final int bandHeight;
+
+	private RowBandTask(RowBandProcessor processor, int fromRow, int toRow, int bandHeight) {
+	    this.processor = processor;
+	    this.fromRow = fromRow;
+	    this.toRow = toRow;
+	    this.bandHeight = bandHeight;
+	}
+
+	@Override
+	protected void compute() {
+	    if (this.toRow - this.fromRow <= this.bandHeight) {
+		this.processor.process(this.fromRow, this.toRow);
+	    } else {
+		final int middle = (this.fromRow + this.toRow) >>> 1;
+		invokeAll(new RowBandTask(this.processor, this.fromRow, middle, this.bandHeight),
+			new RowBandTask(this.processor, middle, this.toRow, this.bandHeight));
+	    }
+	}
+
+    }
+
+    private static final class InteriorNeighborhood<T> implements Neighborhood<T> {
+
+	private final StaticTable<T> table;
+	private final int radius;
+	private int x, y;
+
+	private InteriorNeighborhood(StaticTable<T> table, int radius) {
+	    this.table = table;
+	    this.radius = radius;
+	}
+
+	private void moveTo(int x, int y) {
+	    this.x = x;
+	    this.y = y;
+	}
+
+	@Override
+	public int getX() {
+	    return this.x;
+	}
+
+	@Override
+	public int getY() {
+	    return this.y;
+	}
+
+	@Override
+	public int getRadius() {
+	    return this.radius;
+	}
+
+	@Override
+	public T get(int dx, int dy) {
+	    return this.table.getCellValue(this.x + dx, this.y + dy);
+	}
+
+    }
+
+    private static final class BorderNeighborhood<T> implements Neighborhood<T> {
+
+	private final StaticTable<T> table;
+	private final int radius;
+	private final BorderHandling borderHandling;
+	private final T outsideValue;
+	private final int[] rowIndices;
+	private final int[] columnIndices;
+	private int x, y;
+
+	private BorderNeighborhood(StaticTable<T> table, int radius, BorderHandling borderHandling, T outsideValue) {
+	    this.table = table;
+	    this.radius = radius;
+	    this.borderHandling = borderHandling;
+	    this.outsideValue = outsideValue;
+	    this.rowIndices = new int[2 * radius + 1];
+	    this.columnIndices = new int[2 * radius + 1];
+	    this.y = -1;
+	}
+
+	private void moveTo(int x, int y) {
+	    if (this.y != y) {
+		for (int i = 0; i < this.rowIndices.length; i++) {
+		    this.rowIndices[i] = y + i - this.radius;
+		}
+		this.borderHandling.mapRowIndices(this.rowIndices, 0, this.rowIndices.length);
+	    }
+	    for (int i = 0; i < this.columnIndices.length; i++) {
+		this.columnIndices[i] = x + i - this.radius;
+	    }
+	    this.borderHandling.mapColumnIndices(this.columnIndices, 0, this.columnIndices.length);
+	    this.x = x;
+	    this.y = y;
+	}
+
+	@Override
+	public int getX() {
+	    return this.x;
+	}
+
+	@Override
+	public int getY() {
+	    return this.y;
+	}
+
+	@Override
+	public int getRadius() {
+	    return this.radius;
+	}
+
+	@Override
+	public T get(int dx, int dy) {
+	    final int columnIndex = this.columnIndices[dx + this.radius];
+	    final int rowIndex = this.rowIndices[dy + this.radius];
+	    if (columnIndex == BorderHandling.OUTSIDE || rowIndex == BorderHandling.OUTSIDE) {
+		return this.outsideValue;
+	    }
+	    return this.table.getCellValue(columnIndex, rowIndex);
+	}
+
+    }
+
+}
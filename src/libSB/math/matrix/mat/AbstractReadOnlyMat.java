@@ -36,6 +36,9 @@ public abstract class AbstractReadOnlyMat implements Mat {
     protected final double[] mat;
 
     protected AbstractReadOnlyMat(int m, int n) {
+        if (m < 0 || n < 0) {
+            throw new IllegalArgumentException("Negative Dimension: " + m + "x" + n);
+        }
         this.m = m;
         this.n = n;
         this.mat = new double[m * n];
@@ -48,9 +51,9 @@ public abstract class AbstractReadOnlyMat implements Mat {
     
     protected int getIndex(int iM, int iN) {
         if (iM < 0 || iM >= m || iN < 0 || iN >= n) {
-            throw new IllegalArgumentException();
+            throw new IllegalArgumentException("Index (" + iM + ", " + iN + ") out of " + m + "x" + n);
         }
-        return (n * iM) * iN;
+        return n * iM + iN;
     }
 
     //<editor-fold defaultstate="collapsed" desc="Object-Stuff">
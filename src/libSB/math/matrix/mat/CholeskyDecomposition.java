@@ -0,0 +1,132 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.math.matrix.mat;
+
+/**
+ * Cholesky-Decomposition of a symmetric positive definite Matrix: A = L * L^T.
+ * <p>
+ * Only the lower Triangle of A is read, Symmetry is assumed.
+ *
+ * @author Simon Berndt
+ */
+public final class CholeskyDecomposition {
+
+    private final int size;
+    private final double[] l;
+
+    /**
+     * @throws IllegalArgumentException if A is not square or not positive definite
+     */
+    public CholeskyDecomposition(Mat a) {
+        if (a.getM() != a.getN()) {
+            throw new IllegalArgumentException("Matrix is not square: " + a.getM() + "x" + a.getN());
+        }
+        this.size = a.getM();
+        final double[] data = MatEngine.rowMajor(a);
+        this.l = new double[size * size];
+        for (int i = 0; i < size; i++) {
+            final int rowI = i * size;
+            for (int j = 0; j <= i; j++) {
+                final int rowJ = j * size;
+                double sum = data[rowI + j];
+                for (int k = 0; k < j; k++) {
+                    sum -= l[rowI + k] * l[rowJ + k];
+                }
+                if (i == j) {
+                    if (!(sum > 0.0)) {
+                        throw new IllegalArgumentException("Matrix is not positive definite");
+                    }
+                    l[rowI + i] = Math.sqrt(sum);
+                } else {
+                    l[rowI + j] = sum / l[rowJ + j];
+                }
+            }
+        }
+    }
+
+    public MutableMat getL() {
+        final MutableMat result = new MutableMat(size, size);
+        System.arraycopy(l, 0, result.mat, 0, l.length);
+        return result;
+    }
+
+    public double determinant() {
+        double det = 1.0;
+        for (int i = 0; i < size; i++) {
+            det *= l[i * size + i];
+        }
+        return det * det;
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Solve">
+    /**
+     * x with A * x = b.
+     */
+    public double[] solve(double[] b) {
+        if (b.length != size) {
+            throw new IllegalArgumentException("Expected " + size + " Values, got " + b.length);
+        }
+        final double[] x = b.clone();
+        solveInPlace(x, 1);
+        return x;
+    }
+
+    /**
+     * X with A * X = B.
+     */
+    public MutableMat solve(Mat b) {
+        if (b.getM() != size) {
+            throw new IllegalArgumentException("Expected " + size + " Rows, got " + b.getM());
+        }
+        final MutableMat x = new MutableMat(b);
+        solveInPlace(x.mat, b.getN());
+        return x;
+    }
+
+    private void solveInPlace(double[] x, int cols) {
+        // L * Y = B
+        for (int k = 0; k < size; k++) {
+            final int rowK = k * size;
+            for (int j = 0; j < cols; j++) {
+                double sum = x[k * cols + j];
+                for (int i = 0; i < k; i++) {
+                    sum -= l[rowK + i] * x[i * cols + j];
+                }
+                x[k * cols + j] = sum / l[rowK + k];
+            }
+        }
+        // L^T * X = Y
+        for (int k = size - 1; k >= 0; k--) {
+            for (int j = 0; j < cols; j++) {
+                double sum = x[k * cols + j];
+                for (int i = k + 1; i < size; i++) {
+                    sum -= l[i * size + k] * x[i * cols + j];
+                }
+                x[k * cols + j] = sum / l[k * size + k];
+            }
+        }
+    }
+//</editor-fold>
+
+}
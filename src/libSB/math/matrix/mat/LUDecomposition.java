@@ -0,0 +1,208 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.math.matrix.mat;
+
+/**
+ * LU-Decomposition of a square Matrix with partial Pivoting: P * A = L * U, L with unit Diagonal.
+ *
+ * @author Simon Berndt
+ */
+public final class LUDecomposition {
+
+    private final int size;
+    // L below the Diagonal, U on and above it
+    private final double[] lu;
+    private final int[] pivot;
+    private final int pivotSign;
+
+    public LUDecomposition(Mat a) {
+        if (a.getM() != a.getN()) {
+            throw new IllegalArgumentException("Matrix is not square: " + a.getM() + "x" + a.getN());
+        }
+        this.size = a.getM();
+        this.lu = MatEngine.rowMajor(a).clone();
+        this.pivot = new int[size];
+        for (int i = 0; i < size; i++) {
+            this.pivot[i] = i;
+        }
+        int sign = 1;
+        for (int k = 0; k < size; k++) {
+            int p = k;
+            for (int i = k + 1; i < size; i++) {
+                if (Math.abs(lu[i * size + k]) > Math.abs(lu[p * size + k])) {
+                    p = i;
+                }
+            }
+            if (p != k) {
+                swapRows(p, k);
+                final int tmp = pivot[p];
+                pivot[p] = pivot[k];
+                pivot[k] = tmp;
+                sign = -sign;
+            }
+            final double diagonal = lu[k * size + k];
+            if (diagonal == 0.0) {
+                continue;
+            }
+            for (int i = k + 1; i < size; i++) {
+                final double factor = lu[i * size + k] /= diagonal;
+                if (factor == 0.0) {
+                    continue;
+                }
+                final int row = i * size;
+                final int pivotRow = k * size;
+                for (int j = k + 1; j < size; j++) {
+                    lu[row + j] -= factor * lu[pivotRow + j];
+                }
+            }
+        }
+        this.pivotSign = sign;
+    }
+
+    private void swapRows(int r1, int r2) {
+        final int o1 = r1 * size;
+        final int o2 = r2 * size;
+        for (int j = 0; j < size; j++) {
+            final double tmp = lu[o1 + j];
+            lu[o1 + j] = lu[o2 + j];
+            lu[o2 + j] = tmp;
+        }
+    }
+
+    public boolean isSingular() {
+        for (int i = 0; i < size; i++) {
+            if (lu[i * size + i] == 0.0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public double determinant() {
+        double det = pivotSign;
+        for (int i = 0; i < size; i++) {
+            det *= lu[i * size + i];
+        }
+        return det;
+    }
+
+    public MutableMat getL() {
+        final MutableMat l = new MutableMat(size, size);
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(lu, i * size, l.mat, i * size, i);
+            l.mat[i * size + i] = 1.0;
+        }
+        return l;
+    }
+
+    public MutableMat getU() {
+        final MutableMat u = new MutableMat(size, size);
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(lu, i * size + i, u.mat, i * size + i, size - i);
+        }
+        return u;
+    }
+
+    /**
+     * Row-Permutation: Row i of L * U is Row getPivot()[i] of A.
+     */
+    public int[] getPivot() {
+        return pivot.clone();
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Solve">
+    /**
+     * x with A * x = b.
+     *
+     * @throws IllegalStateException if A is singular
+     */
+    public double[] solve(double[] b) {
+        if (b.length != size) {
+            throw new IllegalArgumentException("Expected " + size + " Values, got " + b.length);
+        }
+        final double[] x = permute(b, 1);
+        solveInPlace(x, 1);
+        return x;
+    }
+
+    /**
+     * X with A * X = B.
+     *
+     * @throws IllegalStateException if A is singular
+     */
+    public MutableMat solve(Mat b) {
+        if (b.getM() != size) {
+            throw new IllegalArgumentException("Expected " + size + " Rows, got " + b.getM());
+        }
+        final int cols = b.getN();
+        final MutableMat x = new MutableMat(size, cols);
+        System.arraycopy(permute(MatEngine.rowMajor(b), cols), 0, x.mat, 0, x.mat.length);
+        solveInPlace(x.mat, cols);
+        return x;
+    }
+
+    public MutableMat inverse() {
+        return solve(MutableMat.identity(size));
+    }
+
+    private double[] permute(double[] b, int cols) {
+        final double[] x = new double[size * cols];
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(b, pivot[i] * cols, x, i * cols, cols);
+        }
+        return x;
+    }
+
+    private void solveInPlace(double[] x, int cols) {
+        if (isSingular()) {
+            throw new IllegalStateException("Matrix is singular");
+        }
+        for (int k = 0; k < size; k++) {
+            for (int i = k + 1; i < size; i++) {
+                final double factor = lu[i * size + k];
+                if (factor != 0.0) {
+                    for (int j = 0; j < cols; j++) {
+                        x[i * cols + j] -= factor * x[k * cols + j];
+                    }
+                }
+            }
+        }
+        for (int k = size - 1; k >= 0; k--) {
+            final double diagonal = lu[k * size + k];
+            for (int j = 0; j < cols; j++) {
+                x[k * cols + j] /= diagonal;
+            }
+            for (int i = 0; i < k; i++) {
+                final double factor = lu[i * size + k];
+                if (factor != 0.0) {
+                    for (int j = 0; j < cols; j++) {
+                        x[i * cols + j] -= factor * x[k * cols + j];
+                    }
+                }
+            }
+        }
+    }
+//</editor-fold>
+
+}
@@ -37,7 +37,7 @@ public interface Mat {
 
     interface Mutable extends Mat {
 
-        void set(int n, int m, double x);
+        void set(int m, int n, double x);
 
     }
 
@@ -0,0 +1,262 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.math.matrix.mat;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import libSB.math.vector.vec2.MutableVec2;
+import libSB.math.vector.vec2.Vec2;
+import libSB.math.vector.vec3.MutableVec3;
+import libSB.math.vector.vec3.Vec3;
+import libSB.math.vector.vec4.MutableVec4;
+import libSB.math.vector.vec4.Vec4;
+
+/**
+ * Dense Operations on row-major Matrices.
+ * <p>
+ * Multiplication and Transposition work on Blocks of BLOCK x BLOCK Elements so the touched Rows of both Operands stay
+ * in Cache. Products of at least PARALLEL_THRESHOLD Multiply-Adds are split into Bands of Rows processed in parallel.
+ *
+ * @author Simon Berndt
+ */
+public final class MatEngine {
+
+    // Edge-Length of the square Blocks, 64 Doubles make 512 Bytes per Block-Row
+    static final int BLOCK = 64;
+    // Multiply-Adds from which multiply runs in parallel
+    static final long PARALLEL_THRESHOLD = 1L << 21;
+    private static final int BANDS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+
+    public MatEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public MatEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Row-major Elements of the Matrix, the backing Array itself when there is one.
+     */
+    static double[] rowMajor(Mat mat) {
+        if (mat instanceof AbstractReadOnlyMat) {
+            return ((AbstractReadOnlyMat) mat).mat;
+        }
+        final int m = mat.getM();
+        final int n = mat.getN();
+        final double[] result = new double[m * n];
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++) {
+                result[i * n + j] = mat.get(i, j);
+            }
+        }
+        return result;
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Multiply">
+    public MutableMat multiply(Mat a, Mat b) {
+        final MutableMat result = new MutableMat(a.getM(), b.getN());
+        multiply(a, b, result);
+        return result;
+    }
+
+    /**
+     * result = a * b. The Result must neither be a nor b.
+     */
+    public void multiply(Mat a, Mat b, MutableMat result) {
+        if (a.getN() != b.getM()) {
+            throw new IllegalArgumentException("Can not multiply " + a.getM() + "x" + a.getN() + " with " + b.getM() + "x" + b.getN());
+        }
+        if (result.getM() != a.getM() || result.getN() != b.getN()) {
+            throw new IllegalArgumentException("Result is " + result.getM() + "x" + result.getN() + ", expected " + a.getM() + "x" + b.getN());
+        }
+        if (result == a || result == b) {
+            throw new IllegalArgumentException("Result must not be an Operand");
+        }
+        Arrays.fill(result.mat, 0.0);
+        final double[] aData = rowMajor(a);
+        final double[] bData = rowMajor(b);
+        final int rows = a.getM();
+        final long work = (long) rows * a.getN() * b.getN();
+        if (work < PARALLEL_THRESHOLD) {
+            multiplyRows(aData, bData, result.mat, a.getN(), b.getN(), 0, rows);
+        } else {
+            final int bandHeight = Math.max(1, rows / (this.pool.getParallelism() * BANDS_PER_THREAD));
+            this.pool.invoke(new MultiplyTask(aData, bData, result.mat, a.getN(), b.getN(), 0, rows, bandHeight));
+        }
+    }
+
+    /**
+     * c[fromRow, toRow) += a[fromRow, toRow) * b, walking k and j Block by Block.
+     */
+    private static void multiplyRows(double[] a, double[] b, double[] c, int inner, int cols, int fromRow, int toRow) {
+        for (int kk = 0; kk < inner; kk += BLOCK) {
+            final int kEnd = Math.min(kk + BLOCK, inner);
+            for (int jj = 0; jj < cols; jj += BLOCK) {
+                final int jEnd = Math.min(jj + BLOCK, cols);
+                for (int i = fromRow; i < toRow; i++) {
+                    final int aRow = i * inner;
+                    final int cRow = i * cols;
+                    for (int k = kk; k < kEnd; k++) {
+                        final double aik = a[aRow + k];
+                        final int bRow = k * cols;
+                        for (int j = jj; j < jEnd; j++) {
+                            c[cRow + j] += aik * b[bRow + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class MultiplyTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 4187630951209385262L;
+
+        private final double[] a;
+        private final double[] b;
+        private final double[] c;
+        private final int inner;
+        private final int cols;
+        private final int fromRow;
+        private final int toRow;
+        private final int bandHeight;
+
+        MultiplyTask(double[] a, double[] b, double[] c, int inner, int cols, int fromRow, int toRow, int bandHeight) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.inner = inner;
+            this.cols = cols;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.bandHeight = bandHeight;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.toRow - this.fromRow <= this.bandHeight) {
+                multiplyRows(this.a, this.b, this.c, this.inner, this.cols, this.fromRow, this.toRow);
+            } else {
+                final int middle = (this.fromRow + this.toRow) >>> 1;
+                invokeAll(new MultiplyTask(this.a, this.b, this.c, this.inner, this.cols, this.fromRow, middle, this.bandHeight),
+                        new MultiplyTask(this.a, this.b, this.c, this.inner, this.cols, middle, this.toRow, this.bandHeight));
+            }
+        }
+
+    }
+//</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Transpose">
+    public MutableMat transpose(Mat a) {
+        final MutableMat result = new MutableMat(a.getN(), a.getM());
+        transpose(a, result);
+        return result;
+    }
+
+    /**
+     * result = a^T. The Result must not be a.
+     */
+    public void transpose(Mat a, MutableMat result) {
+        if (result.getM() != a.getN() || result.getN() != a.getM()) {
+            throw new IllegalArgumentException("Result is " + result.getM() + "x" + result.getN() + ", expected " + a.getN() + "x" + a.getM());
+        }
+        if (result == a) {
+            throw new IllegalArgumentException("Result must not be the Operand");
+        }
+        final double[] src = rowMajor(a);
+        final double[] dst = result.mat;
+        final int m = a.getM();
+        final int n = a.getN();
+        for (int ii = 0; ii < m; ii += BLOCK) {
+            final int iEnd = Math.min(ii + BLOCK, m);
+            for (int jj = 0; jj < n; jj += BLOCK) {
+                final int jEnd = Math.min(jj + BLOCK, n);
+                for (int i = ii; i < iEnd; i++) {
+                    for (int j = jj; j < jEnd; j++) {
+                        dst[j * m + i] = src[i * n + j];
+                    }
+                }
+            }
+        }
+    }
+//</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Matrix-Vector">
+    public double[] multiply(Mat a, double[] x) {
+        final double[] y = new double[a.getM()];
+        multiply(a, x, y);
+        return y;
+    }
+
+    /**
+     * y = a * x. y must not be x.
+     */
+    public void multiply(Mat a, double[] x, double[] y) {
+        final int m = a.getM();
+        final int n = a.getN();
+        if (x.length != n || y.length != m) {
+            throw new IllegalArgumentException("Can not multiply " + m + "x" + n + " with " + x.length + " into " + y.length);
+        }
+        if (x == y) {
+            throw new IllegalArgumentException("y must not be x");
+        }
+        final double[] data = rowMajor(a);
+        for (int i = 0; i < m; i++) {
+            final int row = i * n;
+            double sum = 0.0;
+            for (int j = 0; j < n; j++) {
+                sum += data[row + j] * x[j];
+            }
+            y[i] = sum;
+        }
+    }
+
+    public MutableVec2 multiply(Mat a, Vec2 vec) {
+        final double[] y = multiply(checkSquare(a, 2), new double[]{vec.getX(), vec.getY()});
+        return new MutableVec2(y[0], y[1]);
+    }
+
+    public MutableVec3 multiply(Mat a, Vec3 vec) {
+        final double[] y = multiply(checkSquare(a, 3), new double[]{vec.getX(), vec.getY(), vec.getZ()});
+        return new MutableVec3(y[0], y[1], y[2]);
+    }
+
+    public MutableVec4 multiply(Mat a, Vec4 vec) {
+        final double[] y = multiply(checkSquare(a, 4), new double[]{vec.getX(), vec.getY(), vec.getZ(), vec.getW()});
+        return new MutableVec4(y[0], y[1], y[2], y[3]);
+    }
+
+    private static Mat checkSquare(Mat a, int size) {
+        if (a.getM() != size || a.getN() != size) {
+            throw new IllegalArgumentException("Expected " + size + "x" + size + ", got " + a.getM() + "x" + a.getN());
+        }
+        return a;
+    }
+//</editor-fold>
+
+}
@@ -31,11 +31,44 @@ public class MutableMat extends AbstractReadOnlyMat implements Mat.Mutable {
 
     public MutableMat(int m, int n) {
         super(m, n);
-    }    
+    }
+
+    public MutableMat(Mat mat) {
+        super(mat.getM(), mat.getN());
+        if (mat instanceof AbstractReadOnlyMat) {
+            System.arraycopy(((AbstractReadOnlyMat) mat).mat, 0, this.mat, 0, this.mat.length);
+        } else {
+            for (int m = 0; m < getM(); m++) {
+                for (int n = 0; n < getN(); n++) {
+                    this.mat[getIndex(m, n)] = mat.get(m, n);
+                }
+            }
+        }
+    }
+
+    /**
+     * Matrix of m Rows and n Columns filled with the Values given Row by Row.
+     */
+    public static MutableMat of(int m, int n, double... rowMajor) {
+        final MutableMat result = new MutableMat(m, n);
+        if (rowMajor.length != result.mat.length) {
+            throw new IllegalArgumentException("Expected " + result.mat.length + " Values for " + m + "x" + n + ", got " + rowMajor.length);
+        }
+        System.arraycopy(rowMajor, 0, result.mat, 0, rowMajor.length);
+        return result;
+    }
+
+    public static MutableMat identity(int size) {
+        final MutableMat result = new MutableMat(size, size);
+        for (int i = 0; i < size; i++) {
+            result.mat[i * size + i] = 1.0;
+        }
+        return result;
+    }
 
     @Override
-    public void set(int n, int m, double x) {
+    public void set(int m, int n, double x) {
         this.mat[getIndex(m, n)] = x;
     }
-    
+
 }
@@ -0,0 +1,183 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.math.matrix.mat;
+
+/**
+ * QR-Decomposition by Householder-Reflections of an m x n Matrix with m &gt;= n: A = Q * R, Q m x n with orthonormal
+ * Columns, R n x n upper triangular.
+ * <p>
+ * solve yields the least-squares Solution for overdetermined Systems.
+ *
+ * @author Simon Berndt
+ */
+public final class QRDecomposition {
+
+    private final int m;
+    private final int n;
+    // Householder-Vectors on and below the Diagonal, R above it
+    private final double[] qr;
+    private final double[] rDiagonal;
+
+    public QRDecomposition(Mat a) {
+        if (a.getM() < a.getN()) {
+            throw new IllegalArgumentException("Matrix has less Rows than Columns: " + a.getM() + "x" + a.getN());
+        }
+        this.m = a.getM();
+        this.n = a.getN();
+        this.qr = MatEngine.rowMajor(a).clone();
+        this.rDiagonal = new double[n];
+        for (int k = 0; k < n; k++) {
+            double norm = 0.0;
+            for (int i = k; i < m; i++) {
+                norm = Math.hypot(norm, qr[i * n + k]);
+            }
+            if (norm != 0.0) {
+                if (qr[k * n + k] < 0.0) {
+                    norm = -norm;
+                }
+                for (int i = k; i < m; i++) {
+                    qr[i * n + k] /= norm;
+                }
+                qr[k * n + k] += 1.0;
+                for (int j = k + 1; j < n; j++) {
+                    double s = 0.0;
+                    for (int i = k; i < m; i++) {
+                        s += qr[i * n + k] * qr[i * n + j];
+                    }
+                    s = -s / qr[k * n + k];
+                    for (int i = k; i < m; i++) {
+                        qr[i * n + j] += s * qr[i * n + k];
+                    }
+                }
+            }
+            rDiagonal[k] = -norm;
+        }
+    }
+
+    public boolean isFullRank() {
+        for (int k = 0; k < n; k++) {
+            if (rDiagonal[k] == 0.0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public MutableMat getR() {
+        final MutableMat r = new MutableMat(n, n);
+        for (int i = 0; i < n; i++) {
+            r.mat[i * n + i] = rDiagonal[i];
+            System.arraycopy(qr, i * n + i + 1, r.mat, i * n + i + 1, n - i - 1);
+        }
+        return r;
+    }
+
+    public MutableMat getQ() {
+        final MutableMat q = new MutableMat(m, n);
+        final double[] data = q.mat;
+        for (int k = n - 1; k >= 0; k--) {
+            data[k * n + k] = 1.0;
+            if (qr[k * n + k] != 0.0) {
+                for (int j = k; j < n; j++) {
+                    double s = 0.0;
+                    for (int i = k; i < m; i++) {
+                        s += qr[i * n + k] * data[i * n + j];
+                    }
+                    s = -s / qr[k * n + k];
+                    for (int i = k; i < m; i++) {
+                        data[i * n + j] += s * qr[i * n + k];
+                    }
+                }
+            }
+        }
+        return q;
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Solve">
+    /**
+     * x minimizing |A * x - b|.
+     *
+     * @throws IllegalStateException if A is rank deficient
+     */
+    public double[] solve(double[] b) {
+        if (b.length != m) {
+            throw new IllegalArgumentException("Expected " + m + " Values, got " + b.length);
+        }
+        final double[] x = b.clone();
+        solveInPlace(x, 1);
+        final double[] result = new double[n];
+        System.arraycopy(x, 0, result, 0, n);
+        return result;
+    }
+
+    /**
+     * X minimizing the Frobenius-Norm of A * X - B.
+     *
+     * @throws IllegalStateException if A is rank deficient
+     */
+    public MutableMat solve(Mat b) {
+        if (b.getM() != m) {
+            throw new IllegalArgumentException("Expected " + m + " Rows, got " + b.getM());
+        }
+        final int cols = b.getN();
+        final double[] x = MatEngine.rowMajor(b).clone();
+        solveInPlace(x, cols);
+        final MutableMat result = new MutableMat(n, cols);
+        System.arraycopy(x, 0, result.mat, 0, n * cols);
+        return result;
+    }
+
+    private void solveInPlace(double[] x, int cols) {
+        if (!isFullRank()) {
+            throw new IllegalStateException("Matrix is rank deficient");
+        }
+        // Q^T * B
+        for (int k = 0; k < n; k++) {
+            for (int j = 0; j < cols; j++) {
+                double s = 0.0;
+                for (int i = k; i < m; i++) {
+                    s += qr[i * n + k] * x[i * cols + j];
+                }
+                s = -s / qr[k * n + k];
+                for (int i = k; i < m; i++) {
+                    x[i * cols + j] += s * qr[i * n + k];
+                }
+            }
+        }
+        // R * X = Q^T * B
+        for (int k = n - 1; k >= 0; k--) {
+            for (int j = 0; j < cols; j++) {
+                x[k * cols + j] /= rDiagonal[k];
+            }
+            for (int i = 0; i < k; i++) {
+                final double factor = qr[i * n + k];
+                for (int j = 0; j < cols; j++) {
+                    x[i * cols + j] -= factor * x[k * cols + j];
+                }
+            }
+        }
+    }
+//</editor-fold>
+
+}
@@ -0,0 +1,92 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.math.matrix.mat2;
+
+import libSB.math.matrix.mat.Mat;
+import libSB.math.vector.vec2.Vec2;
+import libSB.math.vector.vec2.Vec2Buffer;
+
+/**
+ * Row-major 2x2 Matrix with its Elements as unrolled Fields.
+ * <p>
+ * Operations write into an Out-Parameter instead of allocating, which may be one of the Operands.
+ *
+ * @author Simon Berndt
+ */
+public interface Mat2 extends Mat {
+
+    double getM00();
+
+    double getM01();
+
+    double getM10();
+
+    double getM11();
+
+    void transform(Vec2 vec, Vec2.Mutable out);
+
+    /**
+     * Transforms the Elements [from, to) of the Buffer in place.
+     *
+     * @throws IllegalArgumentException if from &gt; to
+     * @throws IndexOutOfBoundsException if the Range exceeds the Buffer, checked before anything is transformed
+     */
+    void transform(Vec2Buffer buffer, int from, int to);
+
+    /**
+     * Transforms the Vecs [from, to) of the Array in place.
+     *
+     * @throws IllegalArgumentException if from &gt; to
+     * @throws IndexOutOfBoundsException if the Range exceeds the Array, checked before anything is transformed
+     */
+    void transform(Vec2.Mutable[] vecs, int from, int to);
+
+    void multiply(Mat2 other, Mat2.Mutable out);
+
+    void transpose(Mat2.Mutable out);
+
+    double determinant();
+
+    /**
+     * Writes the Inverse into out, returns false and leaves out untouched if this Matrix is singular.
+     */
+    boolean inverse(Mat2.Mutable out);
+
+    interface Mutable extends Mat2, Mat.Mutable {
+
+        void set(double m00, double m01,
+                double m10, double m11);
+
+        void set(Mat2 mat);
+
+        void setIdentity();
+
+        /**
+         * Counter-clockwise Rotation by the Angle in Radians.
+         */
+        void setRotation(double angle);
+
+    }
+
+}
@@ -0,0 +1,279 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.math.matrix.mat2;
+
+import java.util.Locale;
+import libSB.math.matrix.mat.Mat;
+import libSB.math.vector.vec2.Vec2;
+import libSB.math.vector.vec2.Vec2Buffer;
+
+/**
+ *
+ * @author Simon Berndt
+ */
+public final class MutableMat2 implements Mat2.Mutable {
+
+    private double m00;
+    private double m01;
+    private double m10;
+    private double m11;
+
+    public MutableMat2() {
+        setIdentity();
+    }
+
+    public MutableMat2(Mat2 mat) {
+        set(mat);
+    }
+
+    public MutableMat2(double m00, double m01,
+            double m10, double m11) {
+        set(m00, m01,
+                m10, m11);
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Transform">
+    @Override
+    public void transform(Vec2 vec, Vec2.Mutable out) {
+        final double x = vec.getX();
+        final double y = vec.getY();
+        out.set(m00 * x + m01 * y, m10 * x + m11 * y);
+    }
+
+    @Override
+    public void transform(Vec2Buffer buffer, int from, int to) {
+        buffer.checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            final double x = buffer.getX(i);
+            final double y = buffer.getY(i);
+            buffer.set(i, m00 * x + m01 * y, m10 * x + m11 * y);
+        }
+    }
+
+    @Override
+    public void transform(Vec2.Mutable[] vecs, int from, int to) {
+        checkRange(vecs.length, from, to);
+        for (int i = from; i < to; i++) {
+            final Vec2.Mutable vec = vecs[i];
+            transform(vec, vec);
+        }
+    }
+
+    private static void checkRange(int length, int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+        if (from < 0 || to > length) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of [0, " + length + ")");
+        }
+    }
+//</editor-fold>
+
+    @Override
+    public void multiply(Mat2 other, Mat2.Mutable out) {
+        final double o00 = other.getM00();
+        final double o01 = other.getM01();
+        final double o10 = other.getM10();
+        final double o11 = other.getM11();
+        out.set(m00 * o00 + m01 * o10, m00 * o01 + m01 * o11,
+                m10 * o00 + m11 * o10, m10 * o01 + m11 * o11);
+    }
+
+    @Override
+    public void transpose(Mat2.Mutable out) {
+        out.set(m00, m10,
+                m01, m11);
+    }
+
+    @Override
+    public double determinant() {
+        return m00 * m11 - m01 * m10;
+    }
+
+    @Override
+    public boolean inverse(Mat2.Mutable out) {
+        final double det = determinant();
+        if (det == 0.0) {
+            return false;
+        }
+        final double invDet = 1.0 / det;
+        out.set(m11 * invDet, -m01 * invDet,
+                -m10 * invDet, m00 * invDet);
+        return true;
+    }
+
+    @Override
+    public void setRotation(double angle) {
+        final double cos = Math.cos(angle);
+        final double sin = Math.sin(angle);
+        set(cos, -sin,
+                sin, cos);
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Getter/Setter">
+    @Override
+    public int getM() {
+        return 2;
+    }
+
+    @Override
+    public int getN() {
+        return 2;
+    }
+
+    @Override
+    public double get(int m, int n) {
+        switch (index(m, n)) {
+            case 0:
+                return m00;
+            case 1:
+                return m01;
+            case 2:
+                return m10;
+            case 3:
+                return m11;
+        }
+        throw new AssertionError();
+    }
+
+    @Override
+    public void set(int m, int n, double x) {
+        switch (index(m, n)) {
+            case 0:
+                this.m00 = x;
+                return;
+            case 1:
+                this.m01 = x;
+                return;
+            case 2:
+                this.m10 = x;
+                return;
+            case 3:
+                this.m11 = x;
+                return;
+        }
+        throw new AssertionError();
+    }
+
+    private static int index(int m, int n) {
+        if (m < 0 || m >= 2 || n < 0 || n >= 2) {
+            throw new IllegalArgumentException("Index (" + m + ", " + n + ") out of 2x2");
+        }
+        return 2 * m + n;
+    }
+
+    @Override
+    public void set(double m00, double m01,
+            double m10, double m11) {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m10 = m10;
+        this.m11 = m11;
+    }
+
+    @Override
+    public void set(Mat2 mat) {
+        set(mat.getM00(), mat.getM01(),
+                mat.getM10(), mat.getM11());
+    }
+
+    @Override
+    public void setIdentity() {
+        set(1.0, 0.0,
+                0.0, 1.0);
+    }
+
+    @Override
+    public double getM00() {
+        return m00;
+    }
+
+    @Override
+    public double getM01() {
+        return m01;
+    }
+
+    @Override
+    public double getM10() {
+        return m10;
+    }
+
+    @Override
+    public double getM11() {
+        return m11;
+    }
+
+//</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Object-Stuff">
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof Mat) {
+            Mat other = (Mat) obj;
+            if (other.getM() == 2 && other.getN() == 2) {
+                for (int m = 0; m < 2; m++) {
+                    for (int n = 0; n < 2; n++) {
+                        if (get(m, n) != other.get(m, n)) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Same Hash as an equal MutableMat.
+     */
+    @Override
+    public int hashCode() {
+        long bits;
+        int values = 1;
+        bits = Double.doubleToLongBits(m00);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m01);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m10);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m11);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        int hash = 3;
+        hash = 97 * hash + 2;
+        hash = 97 * hash + 2;
+        hash = 97 * hash + values;
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "[%f, %f; %f, %f]", m00, m01, m10, m11);
+    }
+//</editor-fold>
+
+}
@@ -0,0 +1,109 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.math.matrix.mat3;
+
+import libSB.math.matrix.mat.Mat;
+import libSB.math.vector.vec3.Vec3;
+import libSB.math.vector.vec3.Vec3Buffer;
+import libSB.math.vector.vec4.Vec4;
+
+/**
+ * Row-major 3x3 Matrix with its Elements as unrolled Fields.
+ * <p>
+ * Operations write into an Out-Parameter instead of allocating, which may be one of the Operands.
+ *
+ * @author Simon Berndt
+ */
+public interface Mat3 extends Mat {
+
+    double getM00();
+
+    double getM01();
+
+    double getM02();
+
+    double getM10();
+
+    double getM11();
+
+    double getM12();
+
+    double getM20();
+
+    double getM21();
+
+    double getM22();
+
+    void transform(Vec3 vec, Vec3.Mutable out);
+
+    /**
+     * Transforms the Elements [from, to) of the Buffer in place.
+     *
+     * @throws IllegalArgumentException if from &gt; to
+     * @throws IndexOutOfBoundsException if the Range exceeds the Buffer, checked before anything is transformed
+     */
+    void transform(Vec3Buffer buffer, int from, int to);
+
+    /**
+     * Transforms the Vecs [from, to) of the Array in place.
+     *
+     * @throws IllegalArgumentException if from &gt; to
+     * @throws IndexOutOfBoundsException if the Range exceeds the Array, checked before anything is transformed
+     */
+    void transform(Vec3.Mutable[] vecs, int from, int to);
+
+    void multiply(Mat3 other, Mat3.Mutable out);
+
+    void transpose(Mat3.Mutable out);
+
+    double determinant();
+
+    /**
+     * Writes the Inverse into out, returns false and leaves out untouched if this Matrix is singular.
+     */
+    boolean inverse(Mat3.Mutable out);
+
+    /**
+     * Unit-Quaternion (x, y, z, w) of this Matrix, which has to be a pure Rotation.
+     */
+    void toQuaternion(Vec4.Mutable out);
+
+    interface Mutable extends Mat3, Mat.Mutable {
+
+        void set(double m00, double m01, double m02,
+                double m10, double m11, double m12,
+                double m20, double m21, double m22);
+
+        void set(Mat3 mat);
+
+        void setIdentity();
+
+        /**
+         * Rotation of the Quaternion (x, y, z, w), which does not need to be normalized.
+         */
+        void setRotation(Vec4 quaternion);
+
+    }
+
+}
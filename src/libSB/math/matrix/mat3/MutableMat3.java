@@ -0,0 +1,408 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.math.matrix.mat3;
+
+import java.util.Locale;
+import libSB.math.matrix.mat.Mat;
+import libSB.math.vector.vec3.Vec3;
+import libSB.math.vector.vec3.Vec3Buffer;
+import libSB.math.vector.vec4.Vec4;
+
+/**
+ *
+ * @author Simon Berndt
+ */
+public final class MutableMat3 implements Mat3.Mutable {
+
+    private double m00;
+    private double m01;
+    private double m02;
+    private double m10;
+    private double m11;
+    private double m12;
+    private double m20;
+    private double m21;
+    private double m22;
+
+    public MutableMat3() {
+        setIdentity();
+    }
+
+    public MutableMat3(Mat3 mat) {
+        set(mat);
+    }
+
+    public MutableMat3(double m00, double m01, double m02,
+            double m10, double m11, double m12,
+            double m20, double m21, double m22) {
+        set(m00, m01, m02,
+                m10, m11, m12,
+                m20, m21, m22);
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Transform">
+    @Override
+    public void transform(Vec3 vec, Vec3.Mutable out) {
+        final double x = vec.getX();
+        final double y = vec.getY();
+        final double z = vec.getZ();
+        out.set(m00 * x + m01 * y + m02 * z,
+                m10 * x + m11 * y + m12 * z,
+                m20 * x + m21 * y + m22 * z);
+    }
+
+    @Override
+    public void transform(Vec3Buffer buffer, int from, int to) {
+        buffer.checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            final double x = buffer.getX(i);
+            final double y = buffer.getY(i);
+            final double z = buffer.getZ(i);
+            buffer.set(i, m00 * x + m01 * y + m02 * z,
+                    m10 * x + m11 * y + m12 * z,
+                    m20 * x + m21 * y + m22 * z);
+        }
+    }
+
+    @Override
+    public void transform(Vec3.Mutable[] vecs, int from, int to) {
+        checkRange(vecs.length, from, to);
+        for (int i = from; i < to; i++) {
+            final Vec3.Mutable vec = vecs[i];
+            transform(vec, vec);
+        }
+    }
+
+    private static void checkRange(int length, int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+        if (from < 0 || to > length) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of [0, " + length + ")");
+        }
+    }
+//</editor-fold>
+
+    @Override
+    public void multiply(Mat3 other, Mat3.Mutable out) {
+        final double o00 = other.getM00();
+        final double o01 = other.getM01();
+        final double o02 = other.getM02();
+        final double o10 = other.getM10();
+        final double o11 = other.getM11();
+        final double o12 = other.getM12();
+        final double o20 = other.getM20();
+        final double o21 = other.getM21();
+        final double o22 = other.getM22();
+        out.set(m00 * o00 + m01 * o10 + m02 * o20, m00 * o01 + m01 * o11 + m02 * o21, m00 * o02 + m01 * o12 + m02 * o22,
+                m10 * o00 + m11 * o10 + m12 * o20, m10 * o01 + m11 * o11 + m12 * o21, m10 * o02 + m11 * o12 + m12 * o22,
+                m20 * o00 + m21 * o10 + m22 * o20, m20 * o01 + m21 * o11 + m22 * o21, m20 * o02 + m21 * o12 + m22 * o22);
+    }
+
+    @Override
+    public void transpose(Mat3.Mutable out) {
+        out.set(m00, m10, m20,
+                m01, m11, m21,
+                m02, m12, m22);
+    }
+
+    @Override
+    public double determinant() {
+        return m00 * (m11 * m22 - m12 * m21)
+                - m01 * (m10 * m22 - m12 * m20)
+                + m02 * (m10 * m21 - m11 * m20);
+    }
+
+    @Override
+    public boolean inverse(Mat3.Mutable out) {
+        final double c00 = m11 * m22 - m12 * m21;
+        final double c01 = m12 * m20 - m10 * m22;
+        final double c02 = m10 * m21 - m11 * m20;
+        final double det = m00 * c00 + m01 * c01 + m02 * c02;
+        if (det == 0.0) {
+            return false;
+        }
+        final double invDet = 1.0 / det;
+        out.set(c00 * invDet, (m02 * m21 - m01 * m22) * invDet, (m01 * m12 - m02 * m11) * invDet,
+                c01 * invDet, (m00 * m22 - m02 * m20) * invDet, (m02 * m10 - m00 * m12) * invDet,
+                c02 * invDet, (m01 * m20 - m00 * m21) * invDet, (m00 * m11 - m01 * m10) * invDet);
+        return true;
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Quaternion">
+    @Override
+    public void toQuaternion(Vec4.Mutable out) {
+        final double trace = m00 + m11 + m22;
+        if (trace > 0.0) {
+            final double s = Math.sqrt(trace + 1.0) * 2.0;
+            out.set((m21 - m12) / s, (m02 - m20) / s, (m10 - m01) / s, 0.25 * s);
+        } else if (m00 > m11 && m00 > m22) {
+            final double s = Math.sqrt(1.0 + m00 - m11 - m22) * 2.0;
+            out.set(0.25 * s, (m01 + m10) / s, (m02 + m20) / s, (m21 - m12) / s);
+        } else if (m11 > m22) {
+            final double s = Math.sqrt(1.0 + m11 - m00 - m22) * 2.0;
+            out.set((m01 + m10) / s, 0.25 * s, (m12 + m21) / s, (m02 - m20) / s);
+        } else {
+            final double s = Math.sqrt(1.0 + m22 - m00 - m11) * 2.0;
+            out.set((m02 + m20) / s, (m12 + m21) / s, 0.25 * s, (m10 - m01) / s);
+        }
+    }
+
+    @Override
+    public void setRotation(Vec4 quaternion) {
+        final double x = quaternion.getX();
+        final double y = quaternion.getY();
+        final double z = quaternion.getZ();
+        final double w = quaternion.getW();
+        final double norm = x * x + y * y + z * z + w * w;
+        final double s = norm > 0.0 ? 2.0 / norm : 0.0;
+        final double xx = s * x * x;
+        final double xy = s * x * y;
+        final double xz = s * x * z;
+        final double xw = s * x * w;
+        final double yy = s * y * y;
+        final double yz = s * y * z;
+        final double yw = s * y * w;
+        final double zz = s * z * z;
+        final double zw = s * z * w;
+        set(1.0 - (yy + zz), xy - zw, xz + yw,
+                xy + zw, 1.0 - (xx + zz), yz - xw,
+                xz - yw, yz + xw, 1.0 - (xx + yy));
+    }
+//</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Getter/Setter">
+    @Override
+    public int getM() {
+        return 3;
+    }
+
+    @Override
+    public int getN() {
+        return 3;
+    }
+
+    @Override
+    public double get(int m, int n) {
+        switch (index(m, n)) {
+            case 0:
+                return m00;
+            case 1:
+                return m01;
+            case 2:
+                return m02;
+            case 3:
+                return m10;
+            case 4:
+                return m11;
+            case 5:
+                return m12;
+            case 6:
+                return m20;
+            case 7:
+                return m21;
+            case 8:
+                return m22;
+        }
+        throw new AssertionError();
+    }
+
+    @Override
+    public void set(int m, int n, double x) {
+        switch (index(m, n)) {
+            case 0:
+                this.m00 = x;
+                return;
+            case 1:
+                this.m01 = x;
+                return;
+            case 2:
+                this.m02 = x;
+                return;
+            case 3:
+                this.m10 = x;
+                return;
+            case 4:
+                this.m11 = x;
+                return;
+            case 5:
+                this.m12 = x;
+                return;
+            case 6:
+                this.m20 = x;
+                return;
+            case 7:
+                this.m21 = x;
+                return;
+            case 8:
+                this.m22 = x;
+                return;
+        }
+        throw new AssertionError();
+    }
+
+    private static int index(int m, int n) {
+        if (m < 0 || m >= 3 || n < 0 || n >= 3) {
+            throw new IllegalArgumentException("Index (" + m + ", " + n + ") out of 3x3");
+        }
+        return 3 * m + n;
+    }
+
+    @Override
+    public void set(double m00, double m01, double m02,
+            double m10, double m11, double m12,
+            double m20, double m21, double m22) {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m02 = m02;
+        this.m10 = m10;
+        this.m11 = m11;
+        this.m12 = m12;
+        this.m20 = m20;
+        this.m21 = m21;
+        this.m22 = m22;
+    }
+
+    @Override
+    public void set(Mat3 mat) {
+        set(mat.getM00(), mat.getM01(), mat.getM02(),
+                mat.getM10(), mat.getM11(), mat.getM12(),
+                mat.getM20(), mat.getM21(), mat.getM22());
+    }
+
+    @Override
+    public void setIdentity() {
+        set(1.0, 0.0, 0.0,
+                0.0, 1.0, 0.0,
+                0.0, 0.0, 1.0);
+    }
+
+    @Override
+    public double getM00() {
+        return m00;
+    }
+
+    @Override
+    public double getM01() {
+        return m01;
+    }
+
+    @Override
+    public double getM02() {
+        return m02;
+    }
+
+    @Override
+    public double getM10() {
+        return m10;
+    }
+
+    @Override
+    public double getM11() {
+        return m11;
+    }
+
+    @Override
+    public double getM12() {
+        return m12;
+    }
+
+    @Override
+    public double getM20() {
+        return m20;
+    }
+
+    @Override
+    public double getM21() {
+        return m21;
+    }
+
+    @Override
+    public double getM22() {
+        return m22;
+    }
+
+//</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Object-Stuff">
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof Mat) {
+            Mat other = (Mat) obj;
+            if (other.getM() == 3 && other.getN() == 3) {
+                for (int m = 0; m < 3; m++) {
+                    for (int n = 0; n < 3; n++) {
+                        if (get(m, n) != other.get(m, n)) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Same Hash as an equal MutableMat.
+     */
+    @Override
+    public int hashCode() {
+        long bits;
+        int values = 1;
+        bits = Double.doubleToLongBits(m00);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m01);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m02);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m10);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m11);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m12);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m20);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m21);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m22);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        int hash = 3;
+        hash = 97 * hash + 3;
+        hash = 97 * hash + 3;
+        hash = 97 * hash + values;
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "[%f, %f, %f; %f, %f, %f; %f, %f, %f]", m00, m01, m02, m10, m11, m12, m20, m21, m22);
+    }
+//</editor-fold>
+
+}
@@ -0,0 +1,145 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.math.matrix.mat4;
+
+import libSB.math.matrix.mat.Mat;
+import libSB.math.vector.vec3.Vec3;
+import libSB.math.vector.vec3.Vec3Buffer;
+import libSB.math.vector.vec4.Vec4;
+import libSB.math.vector.vec4.Vec4Buffer;
+
+/**
+ * Row-major 4x4 Matrix with its Elements as unrolled Fields.
+ * <p>
+ * Operations write into an Out-Parameter instead of allocating, which may be one of the Operands.
+ *
+ * @author Simon Berndt
+ */
+public interface Mat4 extends Mat {
+
+    double getM00();
+
+    double getM01();
+
+    double getM02();
+
+    double getM03();
+
+    double getM10();
+
+    double getM11();
+
+    double getM12();
+
+    double getM13();
+
+    double getM20();
+
+    double getM21();
+
+    double getM22();
+
+    double getM23();
+
+    double getM30();
+
+    double getM31();
+
+    double getM32();
+
+    double getM33();
+
+    void transform(Vec4 vec, Vec4.Mutable out);
+
+    /**
+     * Transforms the Point (x, y, z, 1) including the Translation, divided by the resulting w unless it is 1.
+     */
+    void transformPoint(Vec3 point, Vec3.Mutable out);
+
+    /**
+     * Transforms the Direction (x, y, z, 0), ignoring the Translation.
+     */
+    void transformDirection(Vec3 direction, Vec3.Mutable out);
+
+    /**
+     * Transforms the Elements [from, to) of the Buffer in place.
+     *
+     * @throws IllegalArgumentException if from &gt; to
+     * @throws IndexOutOfBoundsException if the Range exceeds the Buffer, checked before anything is transformed
+     */
+    void transform(Vec4Buffer buffer, int from, int to);
+
+    /**
+     * Transforms the Elements [from, to) of the Buffer in place as Points.
+     *
+     * @throws IllegalArgumentException if from &gt; to
+     * @throws IndexOutOfBoundsException if the Range exceeds the Buffer, checked before anything is transformed
+     */
+    void transformPoints(Vec3Buffer buffer, int from, int to);
+
+    /**
+     * Transforms the Vecs [from, to) of the Array in place as Points.
+     *
+     * @throws IllegalArgumentException if from &gt; to
+     * @throws IndexOutOfBoundsException if the Range exceeds the Array, checked before anything is transformed
+     */
+    void transformPoints(Vec3.Mutable[] points, int from, int to);
+
+    void multiply(Mat4 other, Mat4.Mutable out);
+
+    void transpose(Mat4.Mutable out);
+
+    double determinant();
+
+    /**
+     * Writes the Inverse into out, returns false and leaves out untouched if this Matrix is singular.
+     */
+    boolean inverse(Mat4.Mutable out);
+
+    /**
+     * Unit-Quaternion (x, y, z, w) of the upper left 3x3 Block, which has to be a pure Rotation.
+     */
+    void toQuaternion(Vec4.Mutable out);
+
+    interface Mutable extends Mat4, Mat.Mutable {
+
+        void set(double m00, double m01, double m02, double m03,
+                double m10, double m11, double m12, double m13,
+                double m20, double m21, double m22, double m23,
+                double m30, double m31, double m32, double m33);
+
+        void set(Mat4 mat);
+
+        void setIdentity();
+
+        /**
+         * Rotation of the Quaternion (x, y, z, w), which does not need to be normalized, without Translation.
+         */
+        void setRotation(Vec4 quaternion);
+
+        void setTranslation(double x, double y, double z);
+
+    }
+
+}
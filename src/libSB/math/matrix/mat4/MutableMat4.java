@@ -0,0 +1,614 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.math.matrix.mat4;
+
+import java.util.Locale;
+import libSB.math.matrix.mat.Mat;
+import libSB.math.vector.vec3.Vec3;
+import libSB.math.vector.vec3.Vec3Buffer;
+import libSB.math.vector.vec4.Vec4;
+import libSB.math.vector.vec4.Vec4Buffer;
+
+/**
+ *
+ * @author Simon Berndt
+ */
+public final class MutableMat4 implements Mat4.Mutable {
+
+    private double m00;
+    private double m01;
+    private double m02;
+    private double m03;
+    private double m10;
+    private double m11;
+    private double m12;
+    private double m13;
+    private double m20;
+    private double m21;
+    private double m22;
+    private double m23;
+    private double m30;
+    private double m31;
+    private double m32;
+    private double m33;
+
+    public MutableMat4() {
+        setIdentity();
+    }
+
+    public MutableMat4(Mat4 mat) {
+        set(mat);
+    }
+
+    public MutableMat4(double m00, double m01, double m02, double m03,
+            double m10, double m11, double m12, double m13,
+            double m20, double m21, double m22, double m23,
+            double m30, double m31, double m32, double m33) {
+        set(m00, m01, m02, m03,
+                m10, m11, m12, m13,
+                m20, m21, m22, m23,
+                m30, m31, m32, m33);
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Transform">
+    @Override
+    public void transform(Vec4 vec, Vec4.Mutable out) {
+        final double x = vec.getX();
+        final double y = vec.getY();
+        final double z = vec.getZ();
+        final double w = vec.getW();
+        out.set(m00 * x + m01 * y + m02 * z + m03 * w,
+                m10 * x + m11 * y + m12 * z + m13 * w,
+                m20 * x + m21 * y + m22 * z + m23 * w,
+                m30 * x + m31 * y + m32 * z + m33 * w);
+    }
+
+    @Override
+    public void transformPoint(Vec3 point, Vec3.Mutable out) {
+        final double x = point.getX();
+        final double y = point.getY();
+        final double z = point.getZ();
+        final double px = m00 * x + m01 * y + m02 * z + m03;
+        final double py = m10 * x + m11 * y + m12 * z + m13;
+        final double pz = m20 * x + m21 * y + m22 * z + m23;
+        final double w = m30 * x + m31 * y + m32 * z + m33;
+        if (w == 1.0) {
+            out.set(px, py, pz);
+        } else {
+            out.set(px / w, py / w, pz / w);
+        }
+    }
+
+    @Override
+    public void transformDirection(Vec3 direction, Vec3.Mutable out) {
+        final double x = direction.getX();
+        final double y = direction.getY();
+        final double z = direction.getZ();
+        out.set(m00 * x + m01 * y + m02 * z,
+                m10 * x + m11 * y + m12 * z,
+                m20 * x + m21 * y + m22 * z);
+    }
+
+    @Override
+    public void transform(Vec4Buffer buffer, int from, int to) {
+        buffer.checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            final double x = buffer.getX(i);
+            final double y = buffer.getY(i);
+            final double z = buffer.getZ(i);
+            final double w = buffer.getW(i);
+            buffer.set(i, m00 * x + m01 * y + m02 * z + m03 * w,
+                    m10 * x + m11 * y + m12 * z + m13 * w,
+                    m20 * x + m21 * y + m22 * z + m23 * w,
+                    m30 * x + m31 * y + m32 * z + m33 * w);
+        }
+    }
+
+    @Override
+    public void transformPoints(Vec3Buffer buffer, int from, int to) {
+        buffer.checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            final double x = buffer.getX(i);
+            final double y = buffer.getY(i);
+            final double z = buffer.getZ(i);
+            final double px = m00 * x + m01 * y + m02 * z + m03;
+            final double py = m10 * x + m11 * y + m12 * z + m13;
+            final double pz = m20 * x + m21 * y + m22 * z + m23;
+            final double w = m30 * x + m31 * y + m32 * z + m33;
+            if (w == 1.0) {
+                buffer.set(i, px, py, pz);
+            } else {
+                buffer.set(i, px / w, py / w, pz / w);
+            }
+        }
+    }
+
+    @Override
+    public void transformPoints(Vec3.Mutable[] points, int from, int to) {
+        checkRange(points.length, from, to);
+        for (int i = from; i < to; i++) {
+            final Vec3.Mutable point = points[i];
+            transformPoint(point, point);
+        }
+    }
+
+    private static void checkRange(int length, int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+        if (from < 0 || to > length) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of [0, " + length + ")");
+        }
+    }
+//</editor-fold>
+
+    @Override
+    public void multiply(Mat4 other, Mat4.Mutable out) {
+        final double o00 = other.getM00();
+        final double o01 = other.getM01();
+        final double o02 = other.getM02();
+        final double o03 = other.getM03();
+        final double o10 = other.getM10();
+        final double o11 = other.getM11();
+        final double o12 = other.getM12();
+        final double o13 = other.getM13();
+        final double o20 = other.getM20();
+        final double o21 = other.getM21();
+        final double o22 = other.getM22();
+        final double o23 = other.getM23();
+        final double o30 = other.getM30();
+        final double o31 = other.getM31();
+        final double o32 = other.getM32();
+        final double o33 = other.getM33();
+        out.set(m00 * o00 + m01 * o10 + m02 * o20 + m03 * o30, m00 * o01 + m01 * o11 + m02 * o21 + m03 * o31, m00 * o02 + m01 * o12 + m02 * o22 + m03 * o32, m00 * o03 + m01 * o13 + m02 * o23 + m03 * o33,
+                m10 * o00 + m11 * o10 + m12 * o20 + m13 * o30, m10 * o01 + m11 * o11 + m12 * o21 + m13 * o31, m10 * o02 + m11 * o12 + m12 * o22 + m13 * o32, m10 * o03 + m11 * o13 + m12 * o23 + m13 * o33,
+                m20 * o00 + m21 * o10 + m22 * o20 + m23 * o30, m20 * o01 + m21 * o11 + m22 * o21 + m23 * o31, m20 * o02 + m21 * o12 + m22 * o22 + m23 * o32, m20 * o03 + m21 * o13 + m22 * o23 + m23 * o33,
+                m30 * o00 + m31 * o10 + m32 * o20 + m33 * o30, m30 * o01 + m31 * o11 + m32 * o21 + m33 * o31, m30 * o02 + m31 * o12 + m32 * o22 + m33 * o32, m30 * o03 + m31 * o13 + m32 * o23 + m33 * o33);
+    }
+
+    @Override
+    public void transpose(Mat4.Mutable out) {
+        out.set(m00, m10, m20, m30,
+                m01, m11, m21, m31,
+                m02, m12, m22, m32,
+                m03, m13, m23, m33);
+    }
+
+    @Override
+    public double determinant() {
+        final double s0 = m00 * m11 - m10 * m01;
+        final double s1 = m00 * m12 - m10 * m02;
+        final double s2 = m00 * m13 - m10 * m03;
+        final double s3 = m01 * m12 - m11 * m02;
+        final double s4 = m01 * m13 - m11 * m03;
+        final double s5 = m02 * m13 - m12 * m03;
+        final double c0 = m20 * m31 - m30 * m21;
+        final double c1 = m20 * m32 - m30 * m22;
+        final double c2 = m20 * m33 - m30 * m23;
+        final double c3 = m21 * m32 - m31 * m22;
+        final double c4 = m21 * m33 - m31 * m23;
+        final double c5 = m22 * m33 - m32 * m23;
+        return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+    }
+
+    /**
+     * Inverse by the 2x2 Sub-Determinants of the upper and lower Row-Pairs (Laplace Expansion).
+     */
+    @Override
+    public boolean inverse(Mat4.Mutable out) {
+        final double s0 = m00 * m11 - m10 * m01;
+        final double s1 = m00 * m12 - m10 * m02;
+        final double s2 = m00 * m13 - m10 * m03;
+        final double s3 = m01 * m12 - m11 * m02;
+        final double s4 = m01 * m13 - m11 * m03;
+        final double s5 = m02 * m13 - m12 * m03;
+        final double c0 = m20 * m31 - m30 * m21;
+        final double c1 = m20 * m32 - m30 * m22;
+        final double c2 = m20 * m33 - m30 * m23;
+        final double c3 = m21 * m32 - m31 * m22;
+        final double c4 = m21 * m33 - m31 * m23;
+        final double c5 = m22 * m33 - m32 * m23;
+        final double det = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+        if (det == 0.0) {
+            return false;
+        }
+        final double invDet = 1.0 / det;
+        out.set((m11 * c5 - m12 * c4 + m13 * c3) * invDet,
+                (-m01 * c5 + m02 * c4 - m03 * c3) * invDet,
+                (m31 * s5 - m32 * s4 + m33 * s3) * invDet,
+                (-m21 * s5 + m22 * s4 - m23 * s3) * invDet,
+                (-m10 * c5 + m12 * c2 - m13 * c1) * invDet,
+                (m00 * c5 - m02 * c2 + m03 * c1) * invDet,
+                (-m30 * s5 + m32 * s2 - m33 * s1) * invDet,
+                (m20 * s5 - m22 * s2 + m23 * s1) * invDet,
+                (m10 * c4 - m11 * c2 + m13 * c0) * invDet,
+                (-m00 * c4 + m01 * c2 - m03 * c0) * invDet,
+                (m30 * s4 - m31 * s2 + m33 * s0) * invDet,
+                (-m20 * s4 + m21 * s2 - m23 * s0) * invDet,
+                (-m10 * c3 + m11 * c1 - m12 * c0) * invDet,
+                (m00 * c3 - m01 * c1 + m02 * c0) * invDet,
+                (-m30 * s3 + m31 * s1 - m32 * s0) * invDet,
+                (m20 * s3 - m21 * s1 + m22 * s0) * invDet);
+        return true;
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Quaternion">
+    @Override
+    public void toQuaternion(Vec4.Mutable out) {
+        final double trace = m00 + m11 + m22;
+        if (trace > 0.0) {
+            final double s = Math.sqrt(trace + 1.0) * 2.0;
+            out.set((m21 - m12) / s, (m02 - m20) / s, (m10 - m01) / s, 0.25 * s);
+        } else if (m00 > m11 && m00 > m22) {
+            final double s = Math.sqrt(1.0 + m00 - m11 - m22) * 2.0;
+            out.set(0.25 * s, (m01 + m10) / s, (m02 + m20) / s, (m21 - m12) / s);
+        } else if (m11 > m22) {
+            final double s = Math.sqrt(1.0 + m11 - m00 - m22) * 2.0;
+            out.set((m01 + m10) / s, 0.25 * s, (m12 + m21) / s, (m02 - m20) / s);
+        } else {
+            final double s = Math.sqrt(1.0 + m22 - m00 - m11) * 2.0;
+            out.set((m02 + m20) / s, (m12 + m21) / s, 0.25 * s, (m10 - m01) / s);
+        }
+    }
+
+    @Override
+    public void setRotation(Vec4 quaternion) {
+        final double x = quaternion.getX();
+        final double y = quaternion.getY();
+        final double z = quaternion.getZ();
+        final double w = quaternion.getW();
+        final double norm = x * x + y * y + z * z + w * w;
+        final double s = norm > 0.0 ? 2.0 / norm : 0.0;
+        final double xx = s * x * x;
+        final double xy = s * x * y;
+        final double xz = s * x * z;
+        final double xw = s * x * w;
+        final double yy = s * y * y;
+        final double yz = s * y * z;
+        final double yw = s * y * w;
+        final double zz = s * z * z;
+        final double zw = s * z * w;
+        set(1.0 - (yy + zz), xy - zw, xz + yw, 0.0,
+                xy + zw, 1.0 - (xx + zz), yz - xw, 0.0,
+                xz - yw, yz + xw, 1.0 - (xx + yy), 0.0,
+                0.0, 0.0, 0.0, 1.0);
+    }
+//</editor-fold>
+
+    @Override
+    public void setTranslation(double x, double y, double z) {
+        set(1.0, 0.0, 0.0, x,
+                0.0, 1.0, 0.0, y,
+                0.0, 0.0, 1.0, z,
+                0.0, 0.0, 0.0, 1.0);
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Getter/Setter">
+    @Override
+    public int getM() {
+        return 4;
+    }
+
+    @Override
+    public int getN() {
+        return 4;
+    }
+
+    @Override
+    public double get(int m, int n) {
+        switch (index(m, n)) {
+            case 0:
+                return m00;
+            case 1:
+                return m01;
+            case 2:
+                return m02;
+            case 3:
+                return m03;
+            case 4:
+                return m10;
+            case 5:
+                return m11;
+            case 6:
+                return m12;
+            case 7:
+                return m13;
+            case 8:
+                return m20;
+            case 9:
+                return m21;
+            case 10:
+                return m22;
+            case 11:
+                return m23;
+            case 12:
+                return m30;
+            case 13:
+                return m31;
+            case 14:
+                return m32;
+            case 15:
+                return m33;
+        }
+        throw new AssertionError();
+    }
+
+    @Override
+    public void set(int m, int n, double x) {
+        switch (index(m, n)) {
+            case 0:
+                this.m00 = x;
+                return;
+            case 1:
+                this.m01 = x;
+                return;
+            case 2:
+                this.m02 = x;
+                return;
+            case 3:
+                this.m03 = x;
+                return;
+            case 4:
+                this.m10 = x;
+                return;
+            case 5:
+                this.m11 = x;
+                return;
+            case 6:
+                this.m12 = x;
+                return;
+            case 7:
+                this.m13 = x;
+                return;
+            case 8:
+                this.m20 = x;
+                return;
+            case 9:
+                this.m21 = x;
+                return;
+            case 10:
+                this.m22 = x;
+                return;
+            case 11:
+                this.m23 = x;
+                return;
+            case 12:
+                this.m30 = x;
+                return;
+            case 13:
+                this.m31 = x;
+                return;
+            case 14:
+                this.m32 = x;
+                return;
+            case 15:
+                this.m33 = x;
+                return;
+        }
+        throw new AssertionError();
+    }
+
+    private static int index(int m, int n) {
+        if (m < 0 || m >= 4 || n < 0 || n >= 4) {
+            throw new IllegalArgumentException("Index (" + m + ", " + n + ") out of 4x4");
+        }
+        return 4 * m + n;
+    }
+
+    @Override
+    public void set(double m00, double m01, double m02, double m03,
+            double m10, double m11, double m12, double m13,
+            double m20, double m21, double m22, double m23,
+            double m30, double m31, double m32, double m33) {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m02 = m02;
+        this.m03 = m03;
+        this.m10 = m10;
+        this.m11 = m11;
+        this.m12 = m12;
+        this.m13 = m13;
+        this.m20 = m20;
+        this.m21 = m21;
+        this.m22 = m22;
+        this.m23 = m23;
+        this.m30 = m30;
+        this.m31 = m31;
+        this.m32 = m32;
+        this.m33 = m33;
+    }
+
+    @Override
+    public void set(Mat4 mat) {
+        set(mat.getM00(), mat.getM01(), mat.getM02(), mat.getM03(),
+                mat.getM10(), mat.getM11(), mat.getM12(), mat.getM13(),
+                mat.getM20(), mat.getM21(), mat.getM22(), mat.getM23(),
+                mat.getM30(), mat.getM31(), mat.getM32(), mat.getM33());
+    }
+
+    @Override
+    public void setIdentity() {
+        set(1.0, 0.0, 0.0, 0.0,
+                0.0, 1.0, 0.0, 0.0,
+                0.0, 0.0, 1.0, 0.0,
+                0.0, 0.0, 0.0, 1.0);
+    }
+
+    @Override
+    public double getM00() {
+        return m00;
+    }
+
+    @Override
+    public double getM01() {
+        return m01;
+    }
+
+    @Override
+    public double getM02() {
+        return m02;
+    }
+
+    @Override
+    public double getM03() {
+        return m03;
+    }
+
+    @Override
+    public double getM10() {
+        return m10;
+    }
+
+    @Override
+    public double getM11() {
+        return m11;
+    }
+
+    @Override
+    public double getM12() {
+        return m12;
+    }
+
+    @Override
+    public double getM13() {
+        return m13;
+    }
+
+    @Override
+    public double getM20() {
+        return m20;
+    }
+
+    @Override
+    public double getM21() {
+        return m21;
+    }
+
+    @Override
+    public double getM22() {
+        return m22;
+    }
+
+    @Override
+    public double getM23() {
+        return m23;
+    }
+
+    @Override
+    public double getM30() {
+        return m30;
+    }
+
+    @Override
+    public double getM31() {
+        return m31;
+    }
+
+    @Override
+    public double getM32() {
+        return m32;
+    }
+
+    @Override
+    public double getM33() {
+        return m33;
+    }
+
+//</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Object-Stuff">
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof Mat) {
+            Mat other = (Mat) obj;
+            if (other.getM() == 4 && other.getN() == 4) {
+                for (int m = 0; m < 4; m++) {
+                    for (int n = 0; n < 4; n++) {
+                        if (get(m, n) != other.get(m, n)) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Same Hash as an equal MutableMat.
+     */
+    @Override
+    public int hashCode() {
+        long bits;
+        int values = 1;
+        bits = Double.doubleToLongBits(m00);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m01);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m02);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m03);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m10);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m11);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m12);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m13);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m20);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m21);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m22);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m23);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m30);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m31);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m32);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        bits = Double.doubleToLongBits(m33);
+        values = 31 * values + (int) (bits ^ (bits >>> 32));
+        int hash = 3;
+        hash = 97 * hash + 4;
+        hash = 97 * hash + 4;
+        hash = 97 * hash + values;
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "[%f, %f, %f, %f; %f, %f, %f, %f; %f, %f, %f, %f; %f, %f, %f, %f]", m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+    }
+//</editor-fold>
+
+}
@@ -0,0 +1,157 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.math.vector.vec2;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe Vec2-Holder. The Components are always read and replaced together as one ImmutableVec2, so every Update works
+ * on a consistent Snapshot and never sees a half-written Vec.
+ * <p>
+ * Update-Functions may be re-applied under Contention and should be side-effect-free.
+ *
+ * @author Simon Berndt
+ */
+public final class AtomicVec2 {
+
+    private final AtomicReference<ImmutableVec2> value;
+
+    public AtomicVec2() {
+        this(0.0, 0.0);
+    }
+
+    public AtomicVec2(Vec2 vec) {
+        this.value = new AtomicReference<>(snapshot(vec));
+    }
+
+    public AtomicVec2(double x, double y) {
+        this.value = new AtomicReference<>(new ImmutableVec2(x, y));
+    }
+
+    private static ImmutableVec2 snapshot(Vec2 vec) {
+        if (vec instanceof ImmutableVec2) {
+            return (ImmutableVec2) vec;
+        }
+        return new ImmutableVec2(vec);
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Plain Access">
+    public ImmutableVec2 get() {
+        return this.value.get();
+    }
+
+    public void set(double x, double y) {
+        this.value.set(new ImmutableVec2(x, y));
+    }
+
+    public void set(Vec2 vec) {
+        this.value.set(snapshot(vec));
+    }
+
+    public ImmutableVec2 getAndSet(Vec2 vec) {
+        return this.value.getAndSet(snapshot(vec));
+    }
+
+    /**
+     * Replaces the current Snapshot with the Update if it is still the expected Instance (Identity, not equals).
+     */
+    public boolean compareAndSet(ImmutableVec2 expect, Vec2 update) {
+        return this.value.compareAndSet(expect, snapshot(update));
+    }
+//</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Compound Updates">
+    public ImmutableVec2 updateAndGet(UnaryOperator<Vec2> updateFunction) {
+        ImmutableVec2 prev;
+        ImmutableVec2 next;
+        do {
+            prev = this.value.get();
+            next = snapshot(updateFunction.apply(prev));
+        } while (!this.value.compareAndSet(prev, next));
+        return next;
+    }
+
+    public ImmutableVec2 getAndUpdate(UnaryOperator<Vec2> updateFunction) {
+        ImmutableVec2 prev;
+        ImmutableVec2 next;
+        do {
+            prev = this.value.get();
+            next = snapshot(updateFunction.apply(prev));
+        } while (!this.value.compareAndSet(prev, next));
+        return prev;
+    }
+
+    public ImmutableVec2 accumulateAndGet(Vec2 vec, BinaryOperator<Vec2> accumulatorFunction) {
+        ImmutableVec2 prev;
+        ImmutableVec2 next;
+        do {
+            prev = this.value.get();
+            next = snapshot(accumulatorFunction.apply(prev, vec));
+        } while (!this.value.compareAndSet(prev, next));
+        return next;
+    }
+
+    public ImmutableVec2 getAndAccumulate(Vec2 vec, BinaryOperator<Vec2> accumulatorFunction) {
+        ImmutableVec2 prev;
+        ImmutableVec2 next;
+        do {
+            prev = this.value.get();
+            next = snapshot(accumulatorFunction.apply(prev, vec));
+        } while (!this.value.compareAndSet(prev, next));
+        return prev;
+    }
+
+    public ImmutableVec2 addAndGet(double x, double y) {
+        ImmutableVec2 prev;
+        ImmutableVec2 next;
+        do {
+            prev = this.value.get();
+            next = new ImmutableVec2(prev.getX() + x, prev.getY() + y);
+        } while (!this.value.compareAndSet(prev, next));
+        return next;
+    }
+
+    public ImmutableVec2 addAndGet(Vec2 vec) {
+        return addAndGet(vec.getX(), vec.getY());
+    }
+
+    public ImmutableVec2 multiplyAndGet(double factor) {
+        ImmutableVec2 prev;
+        ImmutableVec2 next;
+        do {
+            prev = this.value.get();
+            next = new ImmutableVec2(prev.getX() * factor, prev.getY() * factor);
+        } while (!this.value.compareAndSet(prev, next));
+        return next;
+    }
+//</editor-fold>
+
+    @Override
+    public String toString() {
+        return this.value.get().toString();
+    }
+
+}
@@ -26,13 +26,14 @@ package libSB.math.vector.vec2;
 import libSB.math.vector.vec3.MutableVec3;
 
 /**
+ * Plain-Field Vec2 for single-threaded Use, shared Vecs go into an {@link AtomicVec2}.
  *
  * @author Simon Berndt
  */
 public final class MutableVec2 extends AbstractReadOnlyVec2<MutableVec2, MutableVec3> implements Vec2.Mutable {
 
-    private volatile double x;
-    private volatile double y;
+    private double x;
+    private double y;
 
     public MutableVec2() {
         this(0.0, 0.0);
@@ -130,10 +131,10 @@ public final class MutableVec2 extends AbstractReadOnlyVec2<MutableVec2, Mutable
         switch (axis) {
             case 0:
                 this.x = value;
-                break;
+                return;
             case 1:
                 this.y = value;
-                break;
+                return;
         }
         throw new IllegalArgumentException("Invalid Axis-Index");
     }
@@ -0,0 +1,496 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.math.vector.vec2;
+
+import java.util.Arrays;
+import libSB.math.vector.vec3.MutableVec3;
+
+/**
+ * Fixed Number of Vec2s stored as Structure of Arrays, one Array per Axis.
+ * <p>
+ * The Kernels work on Index-Ranges [from, to) and touch only primitive Arrays, single Elements are accessible as
+ * Vec2.Mutable through {@link #view(int)}.
+ *
+ * @author Simon Berndt
+ */
+public final class Vec2Buffer {
+
+    private final double[] x;
+    private final double[] y;
+
+    public Vec2Buffer(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative Size: " + size);
+        }
+        this.x = new double[size];
+        this.y = new double[size];
+    }
+
+    public int size() {
+        return this.x.length;
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Element-Access">
+    public double getX(int index) {
+        return this.x[index];
+    }
+
+    public double getY(int index) {
+        return this.y[index];
+    }
+
+    public void setX(int index, double x) {
+        this.x[index] = x;
+    }
+
+    public void setY(int index, double y) {
+        this.y[index] = y;
+    }
+
+    public void set(int index, double x, double y) {
+        this.x[index] = x;
+        this.y[index] = y;
+    }
+
+    public void set(int index, Vec2 vec) {
+        set(index, vec.getX(), vec.getY());
+    }
+
+    /**
+     * Flyweight on the Element at the Index. Reading and writing it goes straight through to this Buffer.
+     */
+    public View view(int index) {
+        return new View(index);
+    }
+
+    public void fill(int from, int to, double x, double y) {
+        checkRange(from, to);
+        Arrays.fill(this.x, from, to, x);
+        Arrays.fill(this.y, from, to, y);
+    }
+
+    /**
+     * Copies Length Elements of the Source starting at sourceFrom to this Buffer starting at from.
+     */
+    public void copyFrom(Vec2Buffer source, int sourceFrom, int from, int length) {
+        System.arraycopy(source.x, sourceFrom, this.x, from, length);
+        System.arraycopy(source.y, sourceFrom, this.y, from, length);
+    }
+//</editor-fold>
+
+    /**
+     * Checks that [from, to) is a valid Range of this Buffer.
+     *
+     * @throws IllegalArgumentException if from &gt; to
+     * @throws IndexOutOfBoundsException if the Range exceeds the Buffer
+     */
+    public void checkRange(int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+        if (from < 0 || to > this.x.length) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of [0, " + this.x.length + ")");
+        }
+    }
+
+    private static void checkCovers(Vec2Buffer buffer, int to) {
+        if (to > buffer.size()) {
+            throw new IndexOutOfBoundsException("Buffer of Size " + buffer.size() + " does not cover " + to);
+        }
+    }
+
+    private static void checkCovers(double[] array, int offset, int length) {
+        if (offset < 0 || offset + length > array.length) {
+            throw new IndexOutOfBoundsException("Array of Length " + array.length + " can not take " + length + " Values at " + offset);
+        }
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Kernels">
+    /**
+     * this[i] += (x, y)
+     */
+    public void add(int from, int to, double x, double y) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            this.x[i] += x;
+            this.y[i] += y;
+        }
+    }
+
+    /**
+     * this[i] += other[i]
+     */
+    public void add(int from, int to, Vec2Buffer other) {
+        addScaled(from, to, other, 1.0);
+    }
+
+    /**
+     * this[i] -= other[i]
+     */
+    public void subtract(int from, int to, Vec2Buffer other) {
+        addScaled(from, to, other, -1.0);
+    }
+
+    /**
+     * this[i] += other[i] * factor
+     */
+    public void addScaled(int from, int to, Vec2Buffer other, double factor) {
+        checkRange(from, to);
+        checkCovers(other, to);
+        for (int i = from; i < to; i++) {
+            this.x[i] += other.x[i] * factor;
+            this.y[i] += other.y[i] * factor;
+        }
+    }
+
+    /**
+     * this[i] *= factor
+     */
+    public void scale(int from, int to, double factor) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            this.x[i] *= factor;
+            this.y[i] *= factor;
+        }
+    }
+
+    /**
+     * Scales every Element to Length 1, Elements of Length 0 are left unchanged.
+     */
+    public void normalize(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            final double mag = Math.sqrt(this.x[i] * this.x[i] + this.y[i] * this.y[i]);
+            if (mag != 0.0) {
+                this.x[i] /= mag;
+                this.y[i] /= mag;
+            }
+        }
+    }
+
+    /**
+     * result[resultFrom + i - from] = this[i] dot other[i]
+     */
+    public void dot(int from, int to, Vec2Buffer other, double[] result, int resultFrom) {
+        checkRange(from, to);
+        checkCovers(other, to);
+        checkCovers(result, resultFrom, to - from);
+        for (int i = from, r = resultFrom; i < to; i++, r++) {
+            result[r] = this.x[i] * other.x[i] + this.y[i] * other.y[i];
+        }
+    }
+
+    /**
+     * result[resultFrom + i - from] = Z-Component of this[i] cross other[i]
+     */
+    public void cross(int from, int to, Vec2Buffer other, double[] result, int resultFrom) {
+        checkRange(from, to);
+        checkCovers(other, to);
+        checkCovers(result, resultFrom, to - from);
+        for (int i = from, r = resultFrom; i < to; i++, r++) {
+            result[r] = this.x[i] * other.y[i] - this.y[i] * other.x[i];
+        }
+    }
+
+    /**
+     * result[resultFrom + i - from] = |this[i]|
+     */
+    public void magnitude(int from, int to, double[] result, int resultFrom) {
+        checkRange(from, to);
+        checkCovers(result, resultFrom, to - from);
+        for (int i = from, r = resultFrom; i < to; i++, r++) {
+            result[r] = Math.sqrt(this.x[i] * this.x[i] + this.y[i] * this.y[i]);
+        }
+    }
+
+    /**
+     * result[resultFrom + i - from] = |this[i] - other[i]|
+     */
+    public void distance(int from, int to, Vec2Buffer other, double[] result, int resultFrom) {
+        checkRange(from, to);
+        checkCovers(other, to);
+        checkCovers(result, resultFrom, to - from);
+        for (int i = from, r = resultFrom; i < to; i++, r++) {
+            final double dx = this.x[i] - other.x[i];
+            final double dy = this.y[i] - other.y[i];
+            result[r] = Math.sqrt(dx * dx + dy * dy);
+        }
+    }
+//</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Reductions">
+    /**
+     * Sum of all Elements in [from, to), the Zero-Vector for an empty Range.
+     * <p>
+     * Each Axis is summed in four interleaved Partial-Sums combined at the End, so the Order of Additions differs from a
+     * sequential Pass and the Result may differ from it in the last Bits.
+     */
+    public MutableVec2 sum(int from, int to) {
+        checkRange(from, to);
+        return new MutableVec2(sum(this.x, from, to), sum(this.y, from, to));
+    }
+
+    /**
+     * Component-wise Minimum of all Elements in [from, to), Positive Infinity on every Axis for an empty Range.
+     */
+    public MutableVec2 min(int from, int to) {
+        checkRange(from, to);
+        return new MutableVec2(min(this.x, from, to), min(this.y, from, to));
+    }
+
+    /**
+     * Component-wise Maximum of all Elements in [from, to), Negative Infinity on every Axis for an empty Range.
+     */
+    public MutableVec2 max(int from, int to) {
+        checkRange(from, to);
+        return new MutableVec2(max(this.x, from, to), max(this.y, from, to));
+    }
+
+    private static double sum(double[] values, int from, int to) {
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double s2 = 0.0;
+        double s3 = 0.0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += values[i];
+            s1 += values[i + 1];
+            s2 += values[i + 2];
+            s3 += values[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += values[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Minimum over four interleaved Partials, which shortens the Dependency-Chain but stays scalar.
+     */
+    private static double min(double[] values, int from, int to) {
+        double m0 = Double.POSITIVE_INFINITY;
+        double m1 = Double.POSITIVE_INFINITY;
+        double m2 = Double.POSITIVE_INFINITY;
+        double m3 = Double.POSITIVE_INFINITY;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            m0 = Math.min(m0, values[i]);
+            m1 = Math.min(m1, values[i + 1]);
+            m2 = Math.min(m2, values[i + 2]);
+            m3 = Math.min(m3, values[i + 3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.min(m0, values[i]);
+        }
+        return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+    }
+
+    /**
+     * Maximum over four interleaved Partials, which shortens the Dependency-Chain but stays scalar.
+     */
+    private static double max(double[] values, int from, int to) {
+        double m0 = Double.NEGATIVE_INFINITY;
+        double m1 = Double.NEGATIVE_INFINITY;
+        double m2 = Double.NEGATIVE_INFINITY;
+        double m3 = Double.NEGATIVE_INFINITY;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            m0 = Math.max(m0, values[i]);
+            m1 = Math.max(m1, values[i + 1]);
+            m2 = Math.max(m2, values[i + 2]);
+            m3 = Math.max(m3, values[i + 3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.max(m0, values[i]);
+        }
+        return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+    }
+
+    /**
+     * Index of the Element in [from, to) closest to (x, y), -1 for an empty Range. On Ties the lowest Index wins.
+     */
+    public int nearest(int from, int to, double x, double y) {
+        checkRange(from, to);
+        int nearest = -1;
+        double nearestSq = Double.POSITIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            final double dx = this.x[i] - x;
+            final double dy = this.y[i] - y;
+            final double sq = dx * dx + dy * dy;
+            if (sq < nearestSq) {
+                nearestSq = sq;
+                nearest = i;
+            }
+        }
+        return nearest;
+    }
+
+    public int nearest(int from, int to, Vec2 vec) {
+        return nearest(from, to, vec.getX(), vec.getY());
+    }
+//</editor-fold>
+
+    /**
+     * Element of the Buffer seen as Vec2. Operations creating new Vecs return MutableVec2s, the inplace-Operations and
+     * Setters write into the Buffer.
+     */
+    public final class View extends AbstractReadOnlyVec2<MutableVec2, MutableVec3> implements Vec2.Mutable {
+
+        private final int index;
+
+        private View(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            this.index = index;
+        }
+
+        public int getIndex() {
+            return this.index;
+        }
+
+        //<editor-fold defaultstate="collapsed" desc="Inplace">
+        @Override
+        public Vec2.Mutable inplaceAdd(double x, double y) {
+            Vec2Buffer.this.x[this.index] += x;
+            Vec2Buffer.this.y[this.index] += y;
+            return this;
+        }
+
+        @Override
+        public Vec2.Mutable inplaceAdd(Vec2 vec) {
+            return inplaceAdd(vec.getX(), vec.getY());
+        }
+
+        @Override
+        public Vec2.Mutable inplaceSubtract(double x, double y) {
+            return inplaceAdd(-x, -y);
+        }
+
+        @Override
+        public Vec2.Mutable inplaceSubtract(Vec2 vec) {
+            return inplaceSubtract(vec.getX(), vec.getY());
+        }
+
+        @Override
+        public Vec2.Mutable inplaceMultiply(double factor) {
+            Vec2Buffer.this.x[this.index] *= factor;
+            Vec2Buffer.this.y[this.index] *= factor;
+            return this;
+        }
+
+        @Override
+        public Vec2.Mutable inplaceDivide(double dividend) {
+            if (dividend == 0.0) {
+                set(Double.NaN, Double.NaN);
+            } else {
+                Vec2Buffer.this.x[this.index] /= dividend;
+                Vec2Buffer.this.y[this.index] /= dividend;
+            }
+            return this;
+        }
+
+        @Override
+        public Vec2.Mutable inplaceNormalize() {
+            Vec2Buffer.this.normalize(this.index, this.index + 1);
+            return this;
+        }
+
+        @Override
+        public Vec2.Mutable inplaceInverse() {
+            return inplaceMultiply(-1.0);
+        }
+//</editor-fold>
+
+        @Override
+        protected MutableVec2 createVec2(double x, double y) {
+            return new MutableVec2(x, y);
+        }
+
+        @Override
+        protected MutableVec3 createVec3(double x, double y, double z) {
+            return new MutableVec3(x, y, z);
+        }
+
+        //<editor-fold defaultstate="collapsed" desc="Getter/Setter">
+        @Override
+        public void setAxis(int axis, double value) {
+            switch (axis) {
+                case 0:
+                    setX(value);
+                    return;
+                case 1:
+                    setY(value);
+                    return;
+            }
+            throw new IllegalArgumentException("Invalid Axis-Index");
+        }
+
+        @Override
+        public void set(double x, double y) {
+            Vec2Buffer.this.set(this.index, x, y);
+        }
+
+        @Override
+        public void setPolar(double r, double phi) {
+            set(r * Math.cos(phi), r * Math.sin(phi));
+        }
+
+        @Override
+        public void set(Vec2 vec) {
+            set(vec.getX(), vec.getY());
+        }
+
+        @Override
+        public double getX() {
+            return Vec2Buffer.this.x[this.index];
+        }
+
+        @Override
+        public void setX(double x) {
+            Vec2Buffer.this.x[this.index] = x;
+        }
+
+        @Override
+        public double getY() {
+            return Vec2Buffer.this.y[this.index];
+        }
+
+        @Override
+        public void setY(double y) {
+            Vec2Buffer.this.y[this.index] = y;
+        }
+//</editor-fold>
+
+        @Override
+        public int hashCode() {
+            long bits = 7L;
+            bits = 31L * bits + Double.doubleToLongBits(getX());
+            bits = 31L * bits + Double.doubleToLongBits(getY());
+            return (int) (bits ^ (bits >> 32));
+        }
+
+    }
+
+}
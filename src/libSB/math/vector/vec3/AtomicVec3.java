@@ -0,0 +1,157 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.math.vector.vec3;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe Vec3-Holder. The Components are always read and replaced together as one ImmutableVec3, so every Update works
+ * on a consistent Snapshot and never sees a half-written Vec.
+ * <p>
+ * Update-Functions may be re-applied under Contention and should be side-effect-free.
+ *
+ * @author Simon Berndt
+ */
+public final class AtomicVec3 {
+
+    private final AtomicReference<ImmutableVec3> value;
+
+    public AtomicVec3() {
+        this(0.0, 0.0, 0.0);
+    }
+
+    public AtomicVec3(Vec3 vec) {
+        this.value = new AtomicReference<>(snapshot(vec));
+    }
+
+    public AtomicVec3(double x, double y, double z) {
+        this.value = new AtomicReference<>(new ImmutableVec3(x, y, z));
+    }
+
+    private static ImmutableVec3 snapshot(Vec3 vec) {
+        if (vec instanceof ImmutableVec3) {
+            return (ImmutableVec3) vec;
+        }
+        return new ImmutableVec3(vec);
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Plain Access">
+    public ImmutableVec3 get() {
+        return this.value.get();
+    }
+
+    public void set(double x, double y, double z) {
+        this.value.set(new ImmutableVec3(x, y, z));
+    }
+
+    public void set(Vec3 vec) {
+        this.value.set(snapshot(vec));
+    }
+
+    public ImmutableVec3 getAndSet(Vec3 vec) {
+        return this.value.getAndSet(snapshot(vec));
+    }
+
+    /**
+     * Replaces the current Snapshot with the Update if it is still the expected Instance (Identity, not equals).
+     */
+    public boolean compareAndSet(ImmutableVec3 expect, Vec3 update) {
+        return this.value.compareAndSet(expect, snapshot(update));
+    }
+//</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Compound Updates">
+    public ImmutableVec3 updateAndGet(UnaryOperator<Vec3> updateFunction) {
+        ImmutableVec3 prev;
+        ImmutableVec3 next;
+        do {
+            prev = this.value.get();
+            next = snapshot(updateFunction.apply(prev));
+        } while (!this.value.compareAndSet(prev, next));
+        return next;
+    }
+
+    public ImmutableVec3 getAndUpdate(UnaryOperator<Vec3> updateFunction) {
+        ImmutableVec3 prev;
+        ImmutableVec3 next;
+        do {
+            prev = this.value.get();
+            next = snapshot(updateFunction.apply(prev));
+        } while (!this.value.compareAndSet(prev, next));
+        return prev;
+    }
+
+    public ImmutableVec3 accumulateAndGet(Vec3 vec, BinaryOperator<Vec3> accumulatorFunction) {
+        ImmutableVec3 prev;
+        ImmutableVec3 next;
+        do {
+            prev = this.value.get();
+            next = snapshot(accumulatorFunction.apply(prev, vec));
+        } while (!this.value.compareAndSet(prev, next));
+        return next;
+    }
+
+    public ImmutableVec3 getAndAccumulate(Vec3 vec, BinaryOperator<Vec3> accumulatorFunction) {
+        ImmutableVec3 prev;
+        ImmutableVec3 next;
+        do {
+            prev = this.value.get();
+            next = snapshot(accumulatorFunction.apply(prev, vec));
+        } while (!this.value.compareAndSet(prev, next));
+        return prev;
+    }
+
+    public ImmutableVec3 addAndGet(double x, double y, double z) {
+        ImmutableVec3 prev;
+        ImmutableVec3 next;
+        do {
+            prev = this.value.get();
+            next = new ImmutableVec3(prev.getX() + x, prev.getY() + y, prev.getZ() + z);
+        } while (!this.value.compareAndSet(prev, next));
+        return next;
+    }
+
+    public ImmutableVec3 addAndGet(Vec3 vec) {
+        return addAndGet(vec.getX(), vec.getY(), vec.getZ());
+    }
+
+    public ImmutableVec3 multiplyAndGet(double factor) {
+        ImmutableVec3 prev;
+        ImmutableVec3 next;
+        do {
+            prev = this.value.get();
+            next = new ImmutableVec3(prev.getX() * factor, prev.getY() * factor, prev.getZ() * factor);
+        } while (!this.value.compareAndSet(prev, next));
+        return next;
+    }
+//</editor-fold>
+
+    @Override
+    public String toString() {
+        return this.value.get().toString();
+    }
+
+}
@@ -24,14 +24,15 @@
 package libSB.math.vector.vec3;
 
 /**
+ * Plain-Field Vec3 for single-threaded Use, shared Vecs go into an {@link AtomicVec3}.
  *
  * @author Simon Berndt
  */
 public final class MutableVec3 extends AbstractReadOnlyVec3<MutableVec3> implements Vec3.Mutable {
 
-    private volatile double x;
-    private volatile double y;
-    private volatile double z;
+    private double x;
+    private double y;
+    private double z;
 
     public MutableVec3() {
         this(0.0, 0.0, 0.0);
@@ -131,13 +132,13 @@ public final class MutableVec3 extends AbstractReadOnlyVec3<MutableVec3> impleme
         switch (axis) {
             case 0:
                 this.x = value;
-                break;
+                return;
             case 1:
                 this.y = value;
-                break;
+                return;
             case 2:
                 this.z = value;
-                break;
+                return;
         }
         throw new IllegalArgumentException("Invalid Axis-Index");
     }
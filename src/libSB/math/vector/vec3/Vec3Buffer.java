@@ -0,0 +1,531 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.math.vector.vec3;
+
+import java.util.Arrays;
+
+/**
+ * Fixed Number of Vec3s stored as Structure of Arrays, one Array per Axis.
+ * <p>
+ * The Kernels work on Index-Ranges [from, to) and touch only primitive Arrays, single Elements are accessible as
+ * Vec3.Mutable through {@link #view(int)}.
+ *
+ * @author Simon Berndt
+ */
+public final class Vec3Buffer {
+
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+
+    public Vec3Buffer(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative Size: " + size);
+        }
+        this.x = new double[size];
+        this.y = new double[size];
+        this.z = new double[size];
+    }
+
+    public int size() {
+        return this.x.length;
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Element-Access">
+    public double getX(int index) {
+        return this.x[index];
+    }
+
+    public double getY(int index) {
+        return this.y[index];
+    }
+
+    public double getZ(int index) {
+        return this.z[index];
+    }
+
+    public void setX(int index, double x) {
+        this.x[index] = x;
+    }
+
+    public void setY(int index, double y) {
+        this.y[index] = y;
+    }
+
+    public void setZ(int index, double z) {
+        this.z[index] = z;
+    }
+
+    public void set(int index, double x, double y, double z) {
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+    }
+
+    public void set(int index, Vec3 vec) {
+        set(index, vec.getX(), vec.getY(), vec.getZ());
+    }
+
+    /**
+     * Flyweight on the Element at the Index. Reading and writing it goes straight through to this Buffer.
+     */
+    public View view(int index) {
+        return new View(index);
+    }
+
+    public void fill(int from, int to, double x, double y, double z) {
+        checkRange(from, to);
+        Arrays.fill(this.x, from, to, x);
+        Arrays.fill(this.y, from, to, y);
+        Arrays.fill(this.z, from, to, z);
+    }
+
+    /**
+     * Copies Length Elements of the Source starting at sourceFrom to this Buffer starting at from.
+     */
+    public void copyFrom(Vec3Buffer source, int sourceFrom, int from, int length) {
+        System.arraycopy(source.x, sourceFrom, this.x, from, length);
+        System.arraycopy(source.y, sourceFrom, this.y, from, length);
+        System.arraycopy(source.z, sourceFrom, this.z, from, length);
+    }
+//</editor-fold>
+
+    /**
+     * Checks that [from, to) is a valid Range of this Buffer.
+     *
+     * @throws IllegalArgumentException if from &gt; to
+     * @throws IndexOutOfBoundsException if the Range exceeds the Buffer
+     */
+    public void checkRange(int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+        if (from < 0 || to > this.x.length) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of [0, " + this.x.length + ")");
+        }
+    }
+
+    private static void checkCovers(Vec3Buffer buffer, int to) {
+        if (to > buffer.size()) {
+            throw new IndexOutOfBoundsException("Buffer of Size " + buffer.size() + " does not cover " + to);
+        }
+    }
+
+    private static void checkCovers(double[] array, int offset, int length) {
+        if (offset < 0 || offset + length > array.length) {
+            throw new IndexOutOfBoundsException("Array of Length " + array.length + " can not take " + length + " Values at " + offset);
+        }
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Kernels">
+    /**
+     * this[i] += (x, y, z)
+     */
+    public void add(int from, int to, double x, double y, double z) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            this.x[i] += x;
+            this.y[i] += y;
+            this.z[i] += z;
+        }
+    }
+
+    /**
+     * this[i] += other[i]
+     */
+    public void add(int from, int to, Vec3Buffer other) {
+        addScaled(from, to, other, 1.0);
+    }
+
+    /**
+     * this[i] -= other[i]
+     */
+    public void subtract(int from, int to, Vec3Buffer other) {
+        addScaled(from, to, other, -1.0);
+    }
+
+    /**
+     * this[i] += other[i] * factor
+     */
+    public void addScaled(int from, int to, Vec3Buffer other, double factor) {
+        checkRange(from, to);
+        checkCovers(other, to);
+        for (int i = from; i < to; i++) {
+            this.x[i] += other.x[i] * factor;
+            this.y[i] += other.y[i] * factor;
+            this.z[i] += other.z[i] * factor;
+        }
+    }
+
+    /**
+     * this[i] *= factor
+     */
+    public void scale(int from, int to, double factor) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            this.x[i] *= factor;
+            this.y[i] *= factor;
+            this.z[i] *= factor;
+        }
+    }
+
+    /**
+     * Scales every Element to Length 1, Elements of Length 0 are left unchanged.
+     */
+    public void normalize(int from, int to) {
+        checkRange(from, to);
+        for (int i = from; i < to; i++) {
+            final double mag = Math.sqrt(this.x[i] * this.x[i] + this.y[i] * this.y[i] + this.z[i] * this.z[i]);
+            if (mag != 0.0) {
+                this.x[i] /= mag;
+                this.y[i] /= mag;
+                this.z[i] /= mag;
+            }
+        }
+    }
+
+    /**
+     * result[resultFrom + i - from] = this[i] dot other[i]
+     */
+    public void dot(int from, int to, Vec3Buffer other, double[] result, int resultFrom) {
+        checkRange(from, to);
+        checkCovers(other, to);
+        checkCovers(result, resultFrom, to - from);
+        for (int i = from, r = resultFrom; i < to; i++, r++) {
+            result[r] = this.x[i] * other.x[i] + this.y[i] * other.y[i] + this.z[i] * other.z[i];
+        }
+    }
+
+    /**
+     * result[i] = this[i] cross other[i], the Result may be this or the other Buffer.
+     */
+    public void cross(int from, int to, Vec3Buffer other, Vec3Buffer result) {
+        checkRange(from, to);
+        checkCovers(other, to);
+        checkCovers(result, to);
+        for (int i = from; i < to; i++) {
+            final double cx = this.y[i] * other.z[i] - this.z[i] * other.y[i];
+            final double cy = this.z[i] * other.x[i] - this.x[i] * other.z[i];
+            final double cz = this.x[i] * other.y[i] - this.y[i] * other.x[i];
+            result.x[i] = cx;
+            result.y[i] = cy;
+            result.z[i] = cz;
+        }
+    }
+
+    /**
+     * result[resultFrom + i - from] = |this[i]|
+     */
+    public void magnitude(int from, int to, double[] result, int resultFrom) {
+        checkRange(from, to);
+        checkCovers(result, resultFrom, to - from);
+        for (int i = from, r = resultFrom; i < to; i++, r++) {
+            result[r] = Math.sqrt(this.x[i] * this.x[i] + this.y[i] * this.y[i] + this.z[i] * this.z[i]);
+        }
+    }
+
+    /**
+     * result[resultFrom + i - from] = |this[i] - other[i]|
+     */
+    public void distance(int from, int to, Vec3Buffer other, double[] result, int resultFrom) {
+        checkRange(from, to);
+        checkCovers(other, to);
+        checkCovers(result, resultFrom, to - from);
+        for (int i = from, r = resultFrom; i < to; i++, r++) {
+            final double a = this.x[i] - other.x[i];
+            final double b = this.y[i] - other.y[i];
+            final double c = this.z[i] - other.z[i];
+            result[r] = Math.sqrt(a * a + b * b + c * c);
+        }
+    }
+//</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Reductions">
+    /**
+     * Sum of all Elements in [from, to), the Zero-Vector for an empty Range.
+     * <p>
+     * Each Axis is summed in four interleaved Partial-Sums combined at the End, so the Order of Additions differs from a
+     * sequential Pass and the Result may differ from it in the last Bits.
+     */
+    public MutableVec3 sum(int from, int to) {
+        checkRange(from, to);
+        return new MutableVec3(sum(this.x, from, to), sum(this.y, from, to), sum(this.z, from, to));
+    }
+
+    /**
+     * Component-wise Minimum of all Elements in [from, to), Positive Infinity on every Axis for an empty Range.
+     */
+    public MutableVec3 min(int from, int to) {
+        checkRange(from, to);
+        return new MutableVec3(min(this.x, from, to), min(this.y, from, to), min(this.z, from, to));
+    }
+
+    /**
+     * Component-wise Maximum of all Elements in [from, to), Negative Infinity on every Axis for an empty Range.
+     */
+    public MutableVec3 max(int from, int to) {
+        checkRange(from, to);
+        return new MutableVec3(max(this.x, from, to), max(this.y, from, to), max(this.z, from, to));
+    }
+
+    private static double sum(double[] values, int from, int to) {
+        double s0 = 0.0;
+        double s1 = 0.0;
+        double s2 = 0.0;
+        double s3 = 0.0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            s0 += values[i];
+            s1 += values[i + 1];
+            s2 += values[i + 2];
+            s3 += values[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += values[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Minimum over four interleaved Partials, which shortens the Dependency-Chain but stays scalar.
+     */
+    private static double min(double[] values, int from, int to) {
+        double m0 = Double.POSITIVE_INFINITY;
+        double m1 = Double.POSITIVE_INFINITY;
+        double m2 = Double.POSITIVE_INFINITY;
+        double m3 = Double.POSITIVE_INFINITY;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            m0 = Math.min(m0, values[i]);
+            m1 = Math.min(m1, values[i + 1]);
+            m2 = Math.min(m2, values[i + 2]);
+            m3 = Math.min(m3, values[i + 3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.min(m0, values[i]);
+        }
+        return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+    }
+
+    /**
+     * Maximum over four interleaved Partials, which shortens the Dependency-Chain but stays scalar.
+     */
+    private static double max(double[] values, int from, int to) {
+        double m0 = Double.NEGATIVE_INFINITY;
+        double m1 = Double.NEGATIVE_INFINITY;
+        double m2 = Double.NEGATIVE_INFINITY;
+        double m3 = Double.NEGATIVE_INFINITY;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            m0 = Math.max(m0, values[i]);
+            m1 = Math.max(m1, values[i + 1]);
+            m2 = Math.max(m2, values[i + 2]);
+            m3 = Math.max(m3, values[i + 3]);
+        }
+        for (; i < to; i++) {
+            m0 = Math.max(m0, values[i]);
+        }
+        return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+    }
+
+    /**
+     * Index of the Element in [from, to) closest to (x, y, z), -1 for an empty Range. On Ties the lowest Index wins.
+     */
+    public int nearest(int from, int to, double x, double y, double z) {
+        checkRange(from, to);
+        int nearest = -1;
+        double nearestSq = Double.POSITIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            final double dx = this.x[i] - x;
+            final double dy = this.y[i] - y;
+            final double dz = this.z[i] - z;
+            final double sq = dx * dx + dy * dy + dz * dz;
+            if (sq < nearestSq) {
+                nearestSq = sq;
+                nearest = i;
+            }
+        }
+        return nearest;
+    }
+
+    public int nearest(int from, int to, Vec3 vec) {
+        return nearest(from, to, vec.getX(), vec.getY(), vec.getZ());
+    }
+//</editor-fold>
+
+    /**
+     * Element of the Buffer seen as Vec3. Operations creating new Vecs return MutableVec3s, the inplace-Operations and
+     * Setters write into the Buffer.
+     */
+    public final class View extends AbstractReadOnlyVec3<MutableVec3> implements Vec3.Mutable {
+
+        private final int index;
+
+        private View(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            this.index = index;
+        }
+
+        public int getIndex() {
+            return this.index;
+        }
+
+        //<editor-fold defaultstate="collapsed" desc="Inplace">
+        @Override
+        public Vec3.Mutable inplaceAdd(double x, double y, double z) {
+            Vec3Buffer.this.x[this.index] += x;
+            Vec3Buffer.this.y[this.index] += y;
+            Vec3Buffer.this.z[this.index] += z;
+            return this;
+        }
+
+        @Override
+        public Vec3.Mutable inplaceAdd(Vec3 vec) {
+            return inplaceAdd(vec.getX(), vec.getY(), vec.getZ());
+        }
+
+        @Override
+        public Vec3.Mutable inplaceSubtract(double x, double y, double z) {
+            return inplaceAdd(-x, -y, -z);
+        }
+
+        @Override
+        public Vec3.Mutable inplaceSubtract(Vec3 vec) {
+            return inplaceSubtract(vec.getX(), vec.getY(), vec.getZ());
+        }
+
+        @Override
+        public Vec3.Mutable inplaceMultiply(double factor) {
+            Vec3Buffer.this.x[this.index] *= factor;
+            Vec3Buffer.this.y[this.index] *= factor;
+            Vec3Buffer.this.z[this.index] *= factor;
+            return this;
+        }
+
+        @Override
+        public Vec3.Mutable inplaceDivide(double dividend) {
+            if (dividend == 0.0) {
+                set(Double.NaN, Double.NaN, Double.NaN);
+            } else {
+                Vec3Buffer.this.x[this.index] /= dividend;
+                Vec3Buffer.this.y[this.index] /= dividend;
+                Vec3Buffer.this.z[this.index] /= dividend;
+            }
+            return this;
+        }
+
+        @Override
+        public Vec3.Mutable inplaceNormalize() {
+            Vec3Buffer.this.normalize(this.index, this.index + 1);
+            return this;
+        }
+
+        @Override
+        public Vec3.Mutable inplaceInverse() {
+            return inplaceMultiply(-1.0);
+        }
+//</editor-fold>
+
+        @Override
+        protected MutableVec3 createVec3(double x, double y, double z) {
+            return new MutableVec3(x, y, z);
+        }
+
+        //<editor-fold defaultstate="collapsed" desc="Getter/Setter">
+        @Override
+        public void setAxis(int axis, double value) {
+            switch (axis) {
+                case 0:
+                    setX(value);
+                    return;
+                case 1:
+                    setY(value);
+                    return;
+                case 2:
+                    setZ(value);
+                    return;
+            }
+            throw new IllegalArgumentException("Invalid Axis-Index");
+        }
+
+        @Override
+        public void set(double x, double y, double z) {
+            Vec3Buffer.this.set(this.index, x, y, z);
+        }
+
+        @Override
+        public void setPolar(double r, double theta, double phi) {
+            set(r * Math.sin(theta) * Math.cos(phi), r * Math.sin(theta) * Math.sin(phi), r * Math.cos(theta));
+        }
+
+        @Override
+        public void set(Vec3 vec) {
+            set(vec.getX(), vec.getY(), vec.getZ());
+        }
+
+        @Override
+        public double getX() {
+            return Vec3Buffer.this.x[this.index];
+        }
+
+        @Override
+        public void setX(double x) {
+            Vec3Buffer.this.x[this.index] = x;
+        }
+
+        @Override
+        public double getY() {
+            return Vec3Buffer.this.y[this.index];
+        }
+
+        @Override
+        public void setY(double y) {
+            Vec3Buffer.this.y[this.index] = y;
+        }
+
+        @Override
+        public double getZ() {
+            return Vec3Buffer.this.z[this.index];
+        }
+
+        @Override
+        public void setZ(double z) {
+            Vec3Buffer.this.z[this.index] = z;
+        }
+//</editor-fold>
+
+        @Override
+        public int hashCode() {
+            long bits = 7L;
+            bits = 31L * bits + Double.doubleToLongBits(getX());
+            bits = 31L * bits + Double.doubleToLongBits(getY());
+            bits = 31L * bits + Double.doubleToLongBits(getZ());
+            return (int) (bits ^ (bits >> 32));
+        }
+
+    }
+
+}
@@ -0,0 +1,157 @@
+/* 
+ * The MIT License
+ *
+ * Copyright 2016 Simon Berndt.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package libSB.math.vector.vec4;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe Vec4-Holder. The Components are always read and replaced together as one ImmutableVec4, so every Update works
+ * on a consistent Snapshot and never sees a half-written Vec.
+ * <p>
+ * Update-Functions may be re-applied under Contention and should be side-effect-free.
+ *
+ * @author Simon Berndt
+ */
+public final class AtomicVec4 {
+
+    private final AtomicReference<ImmutableVec4> value;
+
+    public AtomicVec4() {
+        this(0.0, 0.0, 0.0, 0.0);
+    }
+
+    public AtomicVec4(Vec4 vec) {
+        this.value = new AtomicReference<>(snapshot(vec));
+    }
+
+    public AtomicVec4(double x, double y, double z, double w) {
+        this.value = new AtomicReference<>(new ImmutableVec4(x, y, z, w));
+    }
+
+    private static ImmutableVec4 snapshot(Vec4 vec) {
+        if (vec instanceof ImmutableVec4) {
+            return (ImmutableVec4) vec;
+        }
+        return new ImmutableVec4(vec);
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Plain Access">
+    public ImmutableVec4 get() {
+        return this.value.get();
+    }
+
+    public void set(double x, double y, double z, double w) {
+        this.value.set(new ImmutableVec4(x, y, z, w));
+    }
+
+    public void set(Vec4 vec) {
+        this.value.set(snapshot(vec));
+    }
+
+    public ImmutableVec4 getAndSet(Vec4 vec) {
+        return this.value.getAndSet(snapshot(vec));
+    }
+
+    /**
+     * Replaces the current Snapshot with the Update if it is still the expected Instance (Identity, not equals).
+     */
+    public boolean compareAndSet(ImmutableVec4 expect, Vec4 update) {
+        return this.value.compareAndSet(expect, snapshot(update));
+    }
+//</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Compound Updates">
+    public ImmutableVec4 updateAndGet(UnaryOperator<Vec4> updateFunction) {
+        ImmutableVec4 prev;
+        ImmutableVec4 next;
+        do {
+            prev = this.value.get();
+            next = snapshot(updateFunction.apply(prev));
+        } while (!this.value.compareAndSet(prev, next));
+        return next;
+    }
+
+    public ImmutableVec4 getAndUpdate(UnaryOperator<Vec4> updateFunction) {
+        ImmutableVec4 prev;
+        ImmutableVec4 next;
+        do {
+            prev = this.value.get();
+            next = snapshot(updateFunction.apply(prev));
+        } while (!this.value.compareAndSet(prev, next));
+        return prev;
+    }
+
+    public ImmutableVec4 accumulateAndGet(Vec4 vec, BinaryOperator<Vec4> accumulatorFunction) {
+        ImmutableVec4 prev;
+        ImmutableVec4 next;
+        do {
+            prev = this.value.get();
+            next = snapshot(accumulatorFunction.apply(prev, vec));
+        } while (!this.value.compareAndSet(prev, next));
+        return next;
+    }
+
+    public ImmutableVec4 getAndAccumulate(Vec4 vec, BinaryOperator<Vec4> accumulatorFunction) {
+        ImmutableVec4 prev;
+        ImmutableVec4 next;
+        do {
+            prev = this.value.get();
+            next = snapshot(accumulatorFunction.apply(prev, vec));
+        } while (!this.value.compareAndSet(prev, next));
+        return prev;
+    }
+
+    public ImmutableVec4 addAndGet(double x, double y, double z, double w) {
+        ImmutableVec4 prev;
+        ImmutableVec4 next;
+        do {
+            prev = this.value.get();
+            next = new ImmutableVec4(prev.getX() + x, prev.getY() + y, prev.getZ() + z, prev.getW() + w);
+        } while (!this.value.compareAndSet(prev, next));
+        return next;
+    }
+
+    public ImmutableVec4 addAndGet(Vec4 vec) {
+        return addAndGet(vec.getX(), vec.getY(), vec.getZ(), vec.getW());
+    }
+
+    public ImmutableVec4 multiplyAndGet(double factor) {
+        ImmutableVec4 prev;
+        ImmutableVec4 next;
+        do {
+            prev = this.value.get();
+            next = new ImmutableVec4(prev.getX() * factor, prev.getY() * factor, prev.getZ() * factor, prev.getW() * factor);
+        } while (!this.value.compareAndSet(prev, next));
+        return next;
+    }
+//</editor-fold>
+
+    @Override
+    public String toString() {
+        return this.value.get().toString();
+    }
+
+}
@@ -24,15 +24,16 @@
 package libSB.math.vector.vec4;
 
 /**
+ * Plain-Field Vec4 for single-threaded Use, shared Vecs go into an {@link AtomicVec4}.
  *
  * @author Simon Berndt
  */
 public final class MutableVec4 extends AbstractReadOnlyVec4<MutableVec4> implements Vec4.Mutable {
 
-    private volatile double x;
-    private volatile double y;
-    private volatile double z;
-    private volatile double w;
+    private double x;
+    private double y;
+    private double z;
+    private double w;
 
     public MutableVec4() {
         this(0.0, 0.0, 0.0, 0.0);
@@ -140,16 +141,16 @@ public final class MutableVec4 extends AbstractReadOnlyVec4<MutableVec4> impleme
         switch (axis) {
             case 0:
                 this.x = value;
-                break;
+                return;
             case 1:
                 this.y = value;
-                break;
+                return;
             case 2:
                 this.z = value;
-                break;
+                return;
             case 3:
                 this.w = value;
-                break;
+                return;
         }
         throw new IllegalArgumentException("Invalid Axis-Index");
     }